@@ -0,0 +1,126 @@
+package store.piku.back.bench;
+
+import store.piku.back.diary.entity.Diary;
+import store.piku.back.diary.enums.Status;
+import store.piku.back.user.entity.User;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 벤치마크용 합성 데이터와 메모리 저장소
+ * DB 없이 서비스 계층의 CPU 구간만 측정하기 위해 저장소 인터페이스를 Proxy 로 구현합니다.
+ */
+public final class Synthetic {
+
+    private Synthetic() {
+    }
+
+    /**
+     * 지정한 메서드만 구현한 메모리 저장소를 만듭니다. 구현하지 않은 메서드를 호출하면 예외가 발생합니다.
+     *
+     * @param type 저장소 인터페이스
+     * @param methods 메서드 이름 별 구현 (인자 배열 → 반환값)
+     */
+    public static <T> T repository(Class<T> type, Map<String, Function<Object[], Object>> methods) {
+        Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (self, method, args) -> {
+            switch (method.getName()) {
+                case "toString":
+                    return "Synthetic" + type.getSimpleName();
+                case "hashCode":
+                    return System.identityHashCode(self);
+                case "equals":
+                    return self == args[0];
+                default:
+                    Function<Object[], Object> handler = methods.get(method.getName());
+                    if (handler == null) {
+                        throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+                    }
+                    return handler.apply(args);
+            }
+        });
+        return type.cast(proxy);
+    }
+
+    /**
+     * 생성자 주입 클래스를 하나뿐인 public 생성자로 만듭니다.
+     * 의존성은 타입이 맞는 인자 하나에만 주입하며, 맞는 인자가 없거나 여러 개면 생성자가 바뀐 것이므로 바로 실패합니다.
+     * 주입하지 않은 인터페이스 인자는 호출하면 예외가 발생하는 저장소로, 클래스 인자는 null 로 둡니다.
+     *
+     * @throws IllegalStateException public 생성자가 하나가 아니거나 의존성과 인자가 맞지 않는 경우
+     */
+    public static <T> T construct(Class<T> type, Object... dependencies) {
+        Constructor<?>[] constructors = type.getConstructors();
+        if (constructors.length != 1) {
+            throw new IllegalStateException(type.getName() + " 의 public 생성자가 " + constructors.length + "개입니다.");
+        }
+        Constructor<?> constructor = constructors[0];
+        Class<?>[] parameterTypes = constructor.getParameterTypes();
+        Object[] args = new Object[parameterTypes.length];
+        for (Object dependency : dependencies) {
+            int matched = -1;
+            for (int i = 0; i < parameterTypes.length; i++) {
+                if (!parameterTypes[i].isInstance(dependency)) {
+                    continue;
+                }
+                if (matched >= 0) {
+                    throw new IllegalStateException(type.getSimpleName() + " 생성자에 " + dependency
+                            + " 를 받을 수 있는 인자가 여러 개입니다: " + parameterTypes[matched].getSimpleName()
+                            + ", " + parameterTypes[i].getSimpleName());
+                }
+                matched = i;
+            }
+            if (matched < 0) {
+                throw new IllegalStateException(type.getSimpleName() + " 생성자에 " + dependency + " 를 받을 인자가 없습니다.");
+            }
+            if (args[matched] != null) {
+                throw new IllegalStateException(type.getSimpleName() + " 생성자의 "
+                        + parameterTypes[matched].getSimpleName() + " 인자에 의존성이 여러 개입니다.");
+            }
+            args[matched] = dependency;
+        }
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (args[i] == null && parameterTypes[i].isInterface()) {
+                args[i] = repository(parameterTypes[i], Map.of());
+            }
+        }
+        try {
+            return type.cast(constructor.newInstance(args));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(type.getName() + " 생성 실패", e);
+        }
+    }
+
+    public static User user(int index) {
+        return new User("user-" + index, "user" + index + "@piku.store", null,
+                "nickname" + index, "characters/fixed/base_image_" + (index % 8) + ".png");
+    }
+
+    public static Diary diary(long id, User user, Status status, LocalDateTime createdAt) {
+        Diary diary = new Diary("오늘의 일기 " + id, status, createdAt.toLocalDate(), user);
+        setField(diary, "id", id);
+        setField(diary, "createdAt", createdAt);
+        return diary;
+    }
+
+    public static void setField(Object target, String name, Object value) {
+        Class<?> type = target.getClass();
+        while (type != null) {
+            try {
+                Field field = type.getDeclaredField(name);
+                field.setAccessible(true);
+                field.set(target, value);
+                return;
+            } catch (NoSuchFieldException e) {
+                type = type.getSuperclass();
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        throw new IllegalArgumentException(name);
+    }
+}
@@ -0,0 +1,224 @@
+package store.piku.back.diary.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import store.piku.back.bench.Synthetic;
+import store.piku.back.comment.dto.response.DiaryCommentCountDto;
+import store.piku.back.comment.repository.CommentRepository;
+import store.piku.back.comment.service.CommentService;
+import store.piku.back.diary.dto.FeedCard;
+import store.piku.back.diary.dto.FeedPhoto;
+import store.piku.back.diary.dto.ResponseDTO;
+import store.piku.back.diary.dto.SeenDiaries;
+import store.piku.back.diary.dto.TimelineEntry;
+import store.piku.back.diary.entity.Diary;
+import store.piku.back.diary.entity.Photo;
+import store.piku.back.diary.enums.PhotoVariant;
+import store.piku.back.diary.enums.Status;
+import store.piku.back.diary.repository.DiaryRepository;
+import store.piku.back.diary.repository.PhotoRepository;
+import store.piku.back.friend.repository.FriendRepository;
+import store.piku.back.friend.repository.FriendRequestRepository;
+import store.piku.back.friend.service.FriendRequestService;
+import store.piku.back.global.dto.RequestMetaInfo;
+import store.piku.back.global.util.ImagePathToUrlConverter;
+import store.piku.back.user.entity.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 피드 조회 경로의 CPU 구간 벤치마크
+ * 저장소는 메모리 구현으로 대체하므로 정렬, 병합, DTO 조립과 사진 URL 서명 비용만 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FeedPathBenchmark {
+
+    private static final String VIEWER_ID = "user-0";
+    private static final int PHOTOS_PER_DIARY = 3;
+
+    @Param({"2000"})
+    public int diaryCount;
+
+    @Param({"10"})
+    public int pageSize;
+
+    private final RequestMetaInfo requestMetaInfo =
+            new RequestMetaInfo("https", "api.piku.store", 443, "api.piku.store", "https://api.piku.store/api/diary/all", "jmh", "127.0.0.1");
+
+    private DiaryService diaryService;
+    private FeedHydrator feedHydrator;
+    private DefaultFeedRanker feedRanker;
+    private ImagePathToUrlConverter imagePathToUrlConverter;
+    private PhotoUrlSigner photoUrlSigner;
+    private String gatewayPath;
+    private long gatewayExpiresAt;
+    private String gatewaySignature;
+
+    private List<Photo> photos;
+    private List<TimelineEntry> friendEntries;
+    private List<TimelineEntry> publicEntries;
+    private SeenDiaries seenDiaries;
+    private List<Long> pageIds;
+    private List<FeedCard> pageCards;
+    private Map<Long, FeedCard> prebuiltCards;
+    private User author;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            users.add(Synthetic.user(i));
+        }
+        author = users.get(1);
+
+        Map<Long, Diary> diaries = new HashMap<>();
+        List<FeedPhoto> feedPhotos = new ArrayList<>();
+        friendEntries = new ArrayList<>();
+        publicEntries = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (long id = diaryCount; id >= 1; id--) {
+            User user = users.get((int) (id % users.size()));
+            Status status = id % 4 == 0 ? Status.FRIENDS : Status.PUBLIC;
+            LocalDateTime createdAt = now.minusMinutes((diaryCount - id) * 7L);
+            Diary diary = Synthetic.diary(id, user, status, createdAt);
+            diaries.put(id, diary);
+            for (int order = 0; order < PHOTOS_PER_DIARY; order++) {
+                feedPhotos.add(new FeedPhoto(id, (int) id * PHOTOS_PER_DIARY + order, user.getId() + "/" + id + "_" + order + ".png", order == PHOTOS_PER_DIARY - 1, 0));
+            }
+            TimelineEntry entry = new TimelineEntry(id, TimelineEntry.toEpochMilli(createdAt));
+            (status == Status.FRIENDS ? friendEntries : publicEntries).add(entry);
+        }
+
+        List<Long> seenIds = new ArrayList<>();
+        for (long id = 5; id <= diaryCount; id += 5) {
+            seenIds.add(id);
+        }
+        seenDiaries = SeenDiaries.ofIds(seenIds);
+
+        photos = new ArrayList<>();
+        for (int order = 0; order < 5; order++) {
+            photos.add(new Photo(order, author.getId() + "/photo_" + order + ".png", order == 3, order, null, 0));
+        }
+
+        DiaryRepository diaryRepository = Synthetic.repository(DiaryRepository.class, Map.of(
+                "findByIdIn", args -> ((Collection<?>) args[0]).stream().map(diaries::get).filter(Objects::nonNull).toList()));
+        PhotoRepository photoRepository = Synthetic.repository(PhotoRepository.class, Map.of(
+                "findFeedPhotosByDiaryIdIn", args -> {
+                    Collection<?> ids = (Collection<?>) args[0];
+                    return feedPhotos.stream().filter(photo -> ids.contains(photo.diaryId())).toList();
+                }));
+        CommentRepository commentRepository = Synthetic.repository(CommentRepository.class, Map.of(
+                "countAllByDiaryIdIn", args -> ((Collection<?>) args[0]).stream()
+                        .map(id -> new DiaryCommentCountDto((Long) id, (Long) id % 7))
+                        .toList()));
+        List<String> friendIds = users.subList(1, 20).stream().map(User::getId).toList();
+        FriendRepository friendRepository = Synthetic.repository(FriendRepository.class, Map.of(
+                "findFriendIds", args -> friendIds,
+                "findFriendIdsIn", args -> friendIds.stream().filter(((Collection<?>) args[1])::contains).toList()));
+        FriendRequestRepository friendRequestRepository = Synthetic.repository(FriendRequestRepository.class, Map.of(
+                "findByToUserIdAndFromUserIdIn", args -> List.of(),
+                "findByFromUserIdAndToUserIdIn", args -> List.of()));
+
+        FeedProperties feedProperties = new FeedProperties();
+        StorageProperties storageProperties = new StorageProperties();
+        storageProperties.setGatewaySigningKey("jmh-gateway-signing-key-0123456789abcdef");
+        photoUrlSigner = new PhotoUrlSigner(storageProperties);
+        imagePathToUrlConverter = new ImagePathToUrlConverter(photoUrlSigner);
+        CommentService commentService = Synthetic.construct(CommentService.class, commentRepository);
+        FriendRequestService friendRequestService = Synthetic.construct(FriendRequestService.class,
+                friendRequestRepository, friendRepository);
+
+        diaryService = Synthetic.construct(DiaryService.class, imagePathToUrlConverter);
+        feedHydrator = Synthetic.construct(FeedHydrator.class, diaryRepository, photoRepository, commentService,
+                friendRequestService, imagePathToUrlConverter);
+        feedRanker = new DefaultFeedRanker(new SyntheticFeedScoreService(feedProperties), feedProperties);
+
+        pageIds = feedRank().subList(0, pageSize);
+        pageCards = feedHydrator.loadCards(pageIds, VIEWER_ID);
+        prebuiltCards = new HashMap<>();
+        for (FeedCard card : feedHydrator.loadBaseCards(publicEntries.stream().map(TimelineEntry::diaryId).toList())) {
+            prebuiltCards.put(card.diaryId(), card);
+        }
+
+        gatewayPath = PhotoVariant.CARD.pathFor(42);
+        String query = photoUrlSigner.sign(gatewayPath);
+        gatewayExpiresAt = Long.parseLong(query.substring("exp=".length(), query.indexOf('&')));
+        gatewaySignature = query.substring(query.indexOf("&sig=") + "&sig=".length());
+    }
+
+    @Benchmark
+    public List<String> sortPhotos() {
+        return diaryService.sortPhotos(new ArrayList<>(photos), requestMetaInfo);
+    }
+
+    @Benchmark
+    public String avatarUrl() {
+        return imagePathToUrlConverter.userAvatarImageUrl(author.getAvatar(), requestMetaInfo);
+    }
+
+    @Benchmark
+    public List<Long> feedRank() {
+        return feedRanker.rank(VIEWER_ID, friendEntries, publicEntries, seenDiaries, 42L);
+    }
+
+    @Benchmark
+    public List<FeedCard> loadPageCards() {
+        return feedHydrator.loadCards(pageIds, VIEWER_ID, prebuiltCards);
+    }
+
+    @Benchmark
+    public List<ResponseDTO> renderPage() {
+        return feedHydrator.render(pageCards, requestMetaInfo);
+    }
+
+    @Benchmark
+    public boolean verifyGatewayUrl() {
+        return photoUrlSigner.verify(gatewayPath, gatewayExpiresAt, gatewaySignature);
+    }
+
+    @Benchmark
+    public List<ResponseDTO> rankAndRenderFirstPage() {
+        List<Long> ranked = feedRank();
+        List<FeedCard> cards = feedHydrator.loadCards(ranked.subList(0, Math.min(pageSize, ranked.size())), VIEWER_ID, prebuiltCards);
+        return feedHydrator.render(cards, requestMetaInfo);
+    }
+
+    /**
+     * Redis 대신 작성 시각과 일기 ID 로 점수를 계산합니다.
+     */
+    static class SyntheticFeedScoreService extends FeedScoreService {
+
+        private final FeedProperties feedProperties;
+
+        SyntheticFeedScoreService(FeedProperties feedProperties) {
+            super(null, feedProperties);
+            this.feedProperties = feedProperties;
+        }
+
+        @Override
+        public Map<Long, Double> getScores(List<TimelineEntry> entries) {
+            double unit = feedProperties.getRankRecencyUnit().toMillis();
+            Map<Long, Double> scores = new HashMap<>(entries.size() * 2);
+            for (TimelineEntry entry : entries) {
+                scores.put(entry.diaryId(), entry.createdAt() / unit + (entry.diaryId() % 7) * feedProperties.getRankCommentWeight());
+            }
+            return scores;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import store.piku.back.ai.dto.AiDiaryResponseDTO;
 import store.piku.back.ai.entity.DiaryImageGeneration;
+import store.piku.back.character.service.FixedCharacterImageCache;
 import store.piku.back.diary.service.PhotoStorageService;
 import store.piku.back.file.FileUtil;
 import store.piku.back.global.dto.RequestMetaInfo;
@@ -21,6 +22,7 @@ public class ImageGenerationService {
     private final FileUtil fileUtil;
     private final UserReader userReader;
     private final PhotoStorageService photoStorage;
+    private final FixedCharacterImageCache fixedCharacterImageCache;
 
     public AiDiaryResponseDTO diaryImage(String content, String userId, RequestMetaInfo requestMetaInfo) {
         log.info("사용자 ID '{}' 일기 이미지 생성 요청", userId);
@@ -28,7 +30,10 @@ public class ImageGenerationService {
         User user = userReader.getUserById(userId);
         String avatarPath = user.getAvatar();
 
-        String characterImageBase64 = fileUtil.getImageAsBase64(avatarPath);
+        // 고정 캐릭터 아바타는 시작 시 메모리에 읽어 둔 Base64 를 그대로 사용합니다.
+        String characterImageBase64 = fixedCharacterImageCache.getByAvatarPath(avatarPath)
+                .map(FixedCharacterImageCache.Image::base64)
+                .orElseGet(() -> fileUtil.getImageAsBase64(avatarPath));
         if (characterImageBase64 == null || characterImageBase64.trim().isEmpty()) {
             log.error("사용자 '{}'의 아바타 이미지 파일을 읽을 수 없습니다. 경로: {}", userId, avatarPath);
             throw new IllegalArgumentException("사용자 아바타 이미지 파일을 읽을 수 없습니다. 경로: " + avatarPath);
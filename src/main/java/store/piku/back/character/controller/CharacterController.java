@@ -6,9 +6,12 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import store.piku.back.character.dto.CharacterResponseDTO;
+import store.piku.back.file.StaticFileSender;
 import store.piku.back.character.service.CharacterService;
-import org.springframework.core.io.Resource;
-import org.springframework.http.HttpHeaders;
+import store.piku.back.character.service.FixedCharacterImageCache;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -16,7 +19,11 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Tag(name = "Character", description = "캐릭터 관련 API")
@@ -26,7 +33,11 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class CharacterController {
 
+    // 고정 캐릭터 이미지는 배포 때 같은 파일명으로 바뀔 수 있어 하루만 캐시하고, 이후에는 ETag 로 재검증합니다.
+    private static final CacheControl FIXED_IMAGE_CACHE = CacheControl.maxAge(Duration.ofDays(1)).cachePublic();
+
     private final CharacterService characterService;
+    private final StaticFileSender staticFileSender;
 
     // 고정 캐릭터 목록 조회 API
     @Operation(summary = "고정 캐릭터 목록 조회", description = "기본으로 제공되는 고정 캐릭터 목록을 조회합니다.")
@@ -41,26 +52,27 @@ public class CharacterController {
     // 고정 캐릭터 이미지 조회 API
     @Operation(summary = "고정 캐릭터 이미지 조회", description = "고정 캐릭터의 이미지를 조회합니다.")
     @GetMapping("/fixed/{fileName:.+}")
-    public ResponseEntity<Resource> getFixedCharacterImage(@Parameter(description = "이미지 파일명", example = "base_image_1.png") @PathVariable String fileName) {
-        try {
-            Resource resource = characterService.getFixedCharacterImageAsResource(fileName);
+    public void getFixedCharacterImage(@Parameter(description = "이미지 파일명", example = "base_image_1.png") @PathVariable String fileName,
+                                       HttpServletRequest request, HttpServletResponse response) throws IOException {
+        // 시작 시 메모리에 읽어 둔 이미지는 디스크를 거치지 않고 보냅니다.
+        Optional<FixedCharacterImageCache.Image> cached = characterService.getFixedCharacterImage(fileName);
+        if (cached.isPresent()) {
+            FixedCharacterImageCache.Image image = cached.get();
+            staticFileSender.send(image.content(), image.fileName(), image.contentType(), image.etag(), image.lastModified(),
+                    FIXED_IMAGE_CACHE, request, response);
+            return;
+        }
 
-            String contentType = MediaType.APPLICATION_OCTET_STREAM_VALUE; // 기본값
-            String resourceFilename = resource.getFilename();
-            if (resourceFilename != null) {
-                if (resourceFilename.endsWith(".png")) contentType = MediaType.IMAGE_PNG_VALUE;
-                else if (resourceFilename.endsWith(".jpg") || resourceFilename.endsWith(".jpeg")) contentType = MediaType.IMAGE_JPEG_VALUE;
-                else if (resourceFilename.endsWith(".gif")) contentType = MediaType.IMAGE_GIF_VALUE;
-            }
+        String contentType = MediaType.APPLICATION_OCTET_STREAM_VALUE; // 기본값
+        if (fileName.endsWith(".png")) contentType = MediaType.IMAGE_PNG_VALUE;
+        else if (fileName.endsWith(".jpg") || fileName.endsWith(".jpeg")) contentType = MediaType.IMAGE_JPEG_VALUE;
+        else if (fileName.endsWith(".gif")) contentType = MediaType.IMAGE_GIF_VALUE;
 
-            return ResponseEntity.ok()
-                    .contentType(MediaType.parseMediaType(contentType))
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + resource.getFilename() + "\"")
-                    .body(resource);
-            
-        } catch (RuntimeException e) {
+        try {
+            staticFileSender.send(characterService.getFixedCharacterImagePath(fileName), contentType, FIXED_IMAGE_CACHE, request, response);
+        } catch (NoSuchFileException | IllegalArgumentException e) {
             log.warn("고정 캐릭터 이미지 '{}' 로드 중 오류 발생(서비스 호출): {}", fileName, e.getMessage());
-            return ResponseEntity.notFound().build();
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
         }
     }
 } 
\ No newline at end of file
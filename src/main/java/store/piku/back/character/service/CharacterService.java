@@ -7,11 +7,11 @@ import store.piku.back.character.enums.CharacterCreationType;
 import store.piku.back.character.repository.CharacterRepository;
 import store.piku.back.file.FileUtil;
 import store.piku.back.user.entity.User;
-import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,6 +26,7 @@ public class CharacterService {
 
     private final CharacterRepository characterRepository;
     private final FileUtil fileUtil;
+    private final FixedCharacterImageCache fixedCharacterImageCache;
 
     // 고정 캐릭터 조회
     public List<Character> getFixedCharacters() {
@@ -67,13 +68,21 @@ public class CharacterService {
     }
 
     /**
-     * 파일명을 기반으로 고정 캐릭터 이미지 파일을 Resource로 로드합니다.
-     * @param fileName 로드할 이미지 파일명 (예: "character_preset_1.png")
-     * @return 로드된 이미지 Resource 객체
+     * 시작 시 메모리에 읽어 둔 고정 캐릭터 이미지를 반환합니다.
+     * @param fileName 이미지 파일명 (예: "character_preset_1.png")
+     * @return 캐시된 이미지, 시작 이후에 추가된 파일이면 빈 값
      */
-    public Resource getFixedCharacterImageAsResource(String fileName) {
-        // FIXED 타입 캐릭터는 userId가 필요 없음 (null 전달)
-        return fileUtil.loadCharacterImageAsResource(CharacterCreationType.FIXED, null, fileName);
+    public Optional<FixedCharacterImageCache.Image> getFixedCharacterImage(String fileName) {
+        return fixedCharacterImageCache.get(fileName);
+    }
+
+    /**
+     * 고정 캐릭터 이미지 파일 경로를 반환합니다. 파일 존재 여부는 확인하지 않습니다.
+     * @param fileName 이미지 파일명 (예: "character_preset_1.png")
+     * @return 이미지 파일 경로
+     */
+    public Path getFixedCharacterImagePath(String fileName) {
+        return fileUtil.resolveCharacterImage(CharacterCreationType.FIXED, null, fileName);
     }
 
     public boolean isCharacterFixedImageExists(Long characterId) {
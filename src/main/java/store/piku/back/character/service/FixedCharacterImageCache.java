@@ -0,0 +1,112 @@
+package store.piku.back.character.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import store.piku.back.file.FileConstants;
+import store.piku.back.file.FileUtil;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 고정 캐릭터 이미지(characters/fixed)를 시작 시 메모리에 읽어 둡니다.
+ * 배포와 함께 바뀌는 작은 이미지 묶음이라 실행 중에는 다시 읽지 않으며, 내용, Content-Type, ETag, Base64 를 미리 계산해
+ * 이미지 조회 API와 AI 이미지 생성이 디스크를 거치지 않고 같은 내용을 사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FixedCharacterImageCache {
+
+    // 사용자 아바타 경로 형식: "characters/fixed/파일명"
+    private static final String AVATAR_PATH_PREFIX =
+            FileConstants.CHARACTERS_BASE_DIR_NAME + "/" + FileConstants.FIXED_CHARACTER_SUB_DIR_NAME + "/";
+
+    private final FileUtil fileUtil;
+
+    // 시작 시 한 번 만든 불변 맵을 통째로 교체하므로 읽을 때 잠금이 필요 없습니다.
+    private volatile Map<String, Image> images = Map.of();
+
+    @PostConstruct
+    public void load() {
+        Path fixedCharacterDir = Paths.get(FileConstants.CHARACTERS_BASE_DIR_NAME, FileConstants.FIXED_CHARACTER_SUB_DIR_NAME);
+        if (!Files.isDirectory(fixedCharacterDir)) {
+            log.warn("고정 캐릭터 디렉토리 '{}'를 찾을 수 없어 이미지 캐시를 비워 둡니다.", fixedCharacterDir);
+            return;
+        }
+
+        Map<String, Image> loaded = new HashMap<>();
+        long totalBytes = 0;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(fixedCharacterDir)) {
+            for (Path imagePath : stream) {
+                String fileName = imagePath.getFileName().toString();
+                String contentType = fileUtil.getContentType(fileName);
+                if (!Files.isRegularFile(imagePath) || !contentType.startsWith("image/")) {
+                    continue;
+                }
+                try {
+                    byte[] content = Files.readAllBytes(imagePath);
+                    long lastModified = Files.getLastModifiedTime(imagePath).toMillis();
+                    loaded.put(fileName, new Image(fileName, content, contentType, etag(content), lastModified,
+                            Base64.getEncoder().encodeToString(content)));
+                    totalBytes += content.length;
+                } catch (IOException e) {
+                    log.error("고정 캐릭터 이미지 '{}' 읽기 실패: {}", imagePath, e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            log.error("고정 캐릭터 디렉토리 '{}' 읽기 중 오류 발생: {}", fixedCharacterDir, e.getMessage(), e);
+        }
+        images = Map.copyOf(loaded);
+        log.info("고정 캐릭터 이미지 {}개를 메모리에 읽었습니다. ({} bytes)", images.size(), totalBytes);
+    }
+
+    /**
+     * @param fileName 고정 캐릭터 이미지 파일명 (예: "base_image_1.png")
+     * @return 캐시된 이미지, 없으면 빈 값
+     */
+    public Optional<Image> get(String fileName) {
+        return Optional.ofNullable(images.get(fileName));
+    }
+
+    /**
+     * 사용자 아바타 경로로 캐시된 이미지를 찾습니다.
+     * @param avatarPath "characters/fixed/파일명" 형태의 아바타 경로
+     * @return 캐시된 이미지, 고정 캐릭터 경로가 아니거나 없으면 빈 값
+     */
+    public Optional<Image> getByAvatarPath(String avatarPath) {
+        if (avatarPath == null || !avatarPath.startsWith(AVATAR_PATH_PREFIX)) {
+            return Optional.empty();
+        }
+        return get(avatarPath.substring(AVATAR_PATH_PREFIX.length()));
+    }
+
+    // 내용 해시 기반 ETag 라 파일 수정 시각이 다른 여러 서버에서도 같은 값이 나옵니다.
+    private static String etag(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 캐시된 고정 캐릭터 이미지. content 는 공유되므로 수정하면 안 됩니다.
+     */
+    public record Image(String fileName, byte[] content, String contentType, String etag, long lastModified,
+                        String base64) {
+    }
+}
@@ -0,0 +1,11 @@
+package store.piku.back.comment.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class DiaryCommentCountDto {
+    private Long diaryId;
+    private Long count;
+}
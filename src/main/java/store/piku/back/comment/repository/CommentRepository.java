@@ -6,8 +6,12 @@ import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import store.piku.back.comment.dto.response.DiaryCommentCountDto;
 import store.piku.back.comment.entity.Comment;
 
+import java.util.Collection;
+import java.util.List;
+
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
@@ -17,6 +21,10 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     @Query("SELECT COUNT(c) FROM Comment c WHERE c.diary.id = :diaryId")
     long countAllByDiaryId(@Param("diaryId") Long diaryId);
 
+    @Query("SELECT new store.piku.back.comment.dto.response.DiaryCommentCountDto(c.diary.id, COUNT(c)) " +
+            "FROM Comment c WHERE c.diary.id IN :diaryIds GROUP BY c.diary.id")
+    List<DiaryCommentCountDto> countAllByDiaryIdIn(@Param("diaryIds") Collection<Long> diaryIds);
+
     int countByParentIdAndDeletedAtIsNull(Long parentId);
 
 
@@ -16,9 +16,12 @@ import store.piku.back.comment.entity.Comment;
 import store.piku.back.comment.exception.CommentErrorCode;
 import store.piku.back.comment.exception.CommentException;
 import store.piku.back.comment.repository.CommentRepository;
+import store.piku.back.counter.entity.CounterType;
+import store.piku.back.counter.service.CounterService;
 import store.piku.back.diary.entity.Diary;
 import store.piku.back.diary.exception.DiaryNotFoundException;
 import store.piku.back.diary.service.DiaryService;
+import store.piku.back.diary.service.FeedScoreService;
 import store.piku.back.global.dto.RequestMetaInfo;
 import store.piku.back.global.util.ImagePathToUrlConverter;
 import store.piku.back.notification.entity.NotificationType;
@@ -26,6 +29,9 @@ import store.piku.back.notification.service.NotificationService;
 import store.piku.back.user.entity.User;
 import store.piku.back.user.service.reader.UserReader;
 
+import java.util.Collection;
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -36,6 +42,8 @@ public class CommentService {
     private final DiaryService diaryService;
     private final ImagePathToUrlConverter imagePathToUrlConverter;
     private final NotificationService notificationService;
+    private final FeedScoreService feedScoreService;
+    private final CounterService counterService;
 
 
 
@@ -69,6 +77,8 @@ public class CommentService {
         }
 
         Comment savedComment = saveCommentToDb(comment, userId, diary.getId());
+        counterService.increment(CounterType.DIARY_COMMENTS, String.valueOf(diary.getId()), 1);
+        feedScoreService.onComment(diary);
         log.info("사용자 {}님이 {} 일기에 댓글 등록 완료, 댓글 내용: {}", savedComment.getUser().getNickname(), savedComment.getDiary().getId(), savedComment.getContent());
 
         // 댓글 타입으로 초기화
@@ -139,6 +149,7 @@ public class CommentService {
         Comment comment = validateCommentForEditOrDelete(commentId, userId);
         comment.inactive();
         commentRepository.save(comment);
+        feedScoreService.onCommentDeleted(comment.getDiary());
         log.info("사용자 {}님이 댓글 {} 삭제 완료", userId, commentId);
 
         return new CommentDeleteResponseDto(true,"성공적으로 댓글을 삭제하였습니다.", commentId);
@@ -202,11 +213,21 @@ public class CommentService {
     public long countAllCommentsByDiaryId(Long diaryId) {
         diaryService.getDiaryById(diaryId);
 
-        long count = commentRepository.countAllByDiaryId(diaryId);
+        long count = counterService.get(CounterType.DIARY_COMMENTS, String.valueOf(diaryId));
         log.info("일기 ID {}에 달린 전체 댓글 수: {}", diaryId, count);
         return count;
     }
 
+    /**
+     * 여러 일기의 전체 댓글 수를 한 번에 조회합니다.
+     *
+     * @param diaryIds 일기 ID 목록
+     * @return 일기 ID 별 댓글 수
+     */
+    public Map<Long, Long> countAllCommentsByDiaryIds(Collection<Long> diaryIds) {
+        return counterService.getDiaryCommentCounts(diaryIds);
+    }
+
     /**
      * 댓글을 DB에 저장
      *
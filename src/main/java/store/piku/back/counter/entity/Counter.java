@@ -0,0 +1,27 @@
+package store.piku.back.counter.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import store.piku.back.counter.key.CounterID;
+
+@IdClass(CounterID.class)
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "counters")
+@Getter
+public class Counter {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "counter_type", length = 32)
+    private CounterType type;
+
+    @Id
+    @Column(name = "owner_id", length = 36)
+    private String ownerId;
+
+    @Column(name = "count_value", nullable = false)
+    private long value;
+}
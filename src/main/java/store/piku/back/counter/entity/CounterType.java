@@ -0,0 +1,7 @@
+package store.piku.back.counter.entity;
+
+public enum CounterType {
+    DIARY_COMMENTS, // 일기별 전체 댓글 수 (owner = 일기 ID)
+    USER_DIARIES,   // 사용자별 일기 수 (owner = 사용자 ID)
+    USER_FRIENDS    // 사용자별 친구 수 (owner = 사용자 ID)
+}
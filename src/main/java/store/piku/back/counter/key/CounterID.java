@@ -0,0 +1,19 @@
+package store.piku.back.counter.key;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import store.piku.back.counter.entity.CounterType;
+
+import java.io.Serializable;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode
+public class CounterID implements Serializable {
+
+    private CounterType type;
+    private String ownerId;
+}
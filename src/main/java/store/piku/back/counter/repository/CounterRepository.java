@@ -0,0 +1,72 @@
+package store.piku.back.counter.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import store.piku.back.counter.entity.Counter;
+import store.piku.back.counter.entity.CounterType;
+import store.piku.back.counter.key.CounterID;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface CounterRepository extends JpaRepository<Counter, CounterID> {
+
+    List<Counter> findByTypeAndOwnerIdIn(CounterType type, Collection<String> ownerIds);
+
+    @Modifying
+    @Query(value = "UPDATE counters SET count_value = count_value + :delta " +
+            "WHERE counter_type = :type AND owner_id = :ownerId", nativeQuery = true)
+    int addDelta(@Param("type") String type, @Param("ownerId") String ownerId, @Param("delta") long delta);
+
+    // 이미 있으면 그대로 둡니다. (동시에 초기화된 경우)
+    @Modifying
+    @Query(value = "INSERT INTO counters (counter_type, owner_id, count_value) VALUES (:type, :ownerId, :value) " +
+            "ON DUPLICATE KEY UPDATE count_value = count_value", nativeQuery = true)
+    int insertIfAbsent(@Param("type") String type, @Param("ownerId") String ownerId, @Param("value") long value);
+
+    // ===== 보정 작업용: 원본 테이블에서 다시 세어 덮어씁니다 =====
+
+    @Modifying
+    @Query(value = "INSERT INTO counters (counter_type, owner_id, count_value) " +
+            "SELECT * FROM (SELECT 'DIARY_COMMENTS' AS t, CAST(diary_id AS CHAR) AS o, COUNT(*) AS cnt " +
+            "FROM comments GROUP BY diary_id) AS src " +
+            "ON DUPLICATE KEY UPDATE count_value = src.cnt", nativeQuery = true)
+    int reconcileDiaryComments();
+
+    @Modifying
+    @Query(value = "INSERT INTO counters (counter_type, owner_id, count_value) " +
+            "SELECT * FROM (SELECT 'USER_DIARIES' AS t, user_id AS o, COUNT(*) AS cnt " +
+            "FROM diary GROUP BY user_id) AS src " +
+            "ON DUPLICATE KEY UPDATE count_value = src.cnt", nativeQuery = true)
+    int reconcileUserDiaries();
+
+    @Modifying
+    @Query(value = "INSERT INTO counters (counter_type, owner_id, count_value) " +
+            "SELECT * FROM (SELECT 'USER_FRIENDS' AS t, f.user_id AS o, COUNT(*) AS cnt " +
+            "FROM (SELECT user_id_1 AS user_id FROM friend UNION ALL SELECT user_id_2 FROM friend) f " +
+            "GROUP BY f.user_id) AS src " +
+            "ON DUPLICATE KEY UPDATE count_value = src.cnt", nativeQuery = true)
+    int reconcileUserFriends();
+
+    // 원본 행이 모두 사라진 카운터는 0 으로 맞춥니다.
+    // DIARY_COMMENTS 의 owner_id 는 일기 ID 문자열이므로 숫자로 바꿔 comments.diary_id 인덱스로 찾습니다.
+    // (bigint 와 varchar 를 그대로 비교하면 양쪽을 실수로 바꿔 비교해 인덱스를 쓰지 못합니다)
+    @Modifying
+    @Query(value = "UPDATE counters c SET c.count_value = 0 WHERE c.counter_type = 'DIARY_COMMENTS' AND c.count_value <> 0 " +
+            "AND NOT EXISTS (SELECT 1 FROM comments m WHERE m.diary_id = CAST(c.owner_id AS UNSIGNED))", nativeQuery = true)
+    int resetOrphanDiaryComments();
+
+    @Modifying
+    @Query(value = "UPDATE counters c SET c.count_value = 0 WHERE c.counter_type = 'USER_DIARIES' AND c.count_value <> 0 " +
+            "AND NOT EXISTS (SELECT 1 FROM diary d WHERE d.user_id = c.owner_id)", nativeQuery = true)
+    int resetOrphanUserDiaries();
+
+    @Modifying
+    @Query(value = "UPDATE counters c SET c.count_value = 0 WHERE c.counter_type = 'USER_FRIENDS' AND c.count_value <> 0 " +
+            "AND NOT EXISTS (SELECT 1 FROM friend f WHERE f.user_id_1 = c.owner_id OR f.user_id_2 = c.owner_id)", nativeQuery = true)
+    int resetOrphanUserFriends();
+}
@@ -0,0 +1,53 @@
+package store.piku.back.counter.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import store.piku.back.counter.repository.CounterRepository;
+import store.piku.back.diary.repository.DiaryMonthCountRepository;
+
+import java.util.function.IntSupplier;
+
+/**
+ * 카운터와 월별 일기 수 집계를 원본 테이블 기준으로 다시 집계해 어긋난 값을 바로잡습니다.
+ * 카운터 종류마다 따로 트랜잭션을 열어 잠금과 언두 로그를 한 종류의 집계 동안만 유지하고,
+ * 한 종류가 실패해도 로그만 남기고 나머지 종류는 계속 보정합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CounterReconciliationJob {
+
+    private final CounterRepository counterRepository;
+    private final DiaryMonthCountRepository diaryMonthCountRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(cron = "${counter.reconcile-cron:0 30 4 * * *}")
+    public void reconcile() {
+        log.info("카운터 보정 시작");
+        int failed = 0;
+        failed += reconcile("댓글", () -> counterRepository.reconcileDiaryComments() + counterRepository.resetOrphanDiaryComments());
+        failed += reconcile("일기", () -> counterRepository.reconcileUserDiaries() + counterRepository.resetOrphanUserDiaries());
+        failed += reconcile("친구", () -> counterRepository.reconcileUserFriends() + counterRepository.resetOrphanUserFriends());
+        failed += reconcile("월별 일기", () -> diaryMonthCountRepository.reconcileAll() + diaryMonthCountRepository.deleteOrphans());
+        log.info("카운터 보정 완료 - 실패 {}종류", failed);
+    }
+
+    /**
+     * 한 종류의 카운터를 하나의 트랜잭션에서 보정합니다.
+     *
+     * @return 실패하면 1, 성공하면 0
+     */
+    private int reconcile(String name, IntSupplier work) {
+        try {
+            Integer affected = transactionTemplate.execute(status -> work.getAsInt());
+            log.info("카운터 보정 - {}: {} (영향받은 행 수)", name, affected);
+            return 0;
+        } catch (RuntimeException e) {
+            log.error("카운터 보정 실패 - {}", name, e);
+            return 1;
+        }
+    }
+}
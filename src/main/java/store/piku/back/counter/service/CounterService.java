@@ -0,0 +1,91 @@
+package store.piku.back.counter.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import store.piku.back.comment.dto.response.DiaryCommentCountDto;
+import store.piku.back.comment.repository.CommentRepository;
+import store.piku.back.counter.entity.Counter;
+import store.piku.back.counter.entity.CounterType;
+import store.piku.back.counter.key.CounterID;
+import store.piku.back.counter.repository.CounterRepository;
+import store.piku.back.diary.repository.DiaryRepository;
+import store.piku.back.friend.repository.FriendRepository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 댓글 수, 일기 수, 친구 수를 카운터 테이블에 미리 집계해 두고 조회 시 한 행만 읽습니다.
+ * 원본 데이터를 바꾸는 트랜잭션 안에서 증감하며, 카운터가 아직 없으면 원본에서 한 번 세어 초기화합니다.
+ * 조회는 읽기 전용 트랜잭션에서도 호출되므로 카운터를 만들지 않고 원본 집계로 대신 응답합니다.
+ * 카운터 생성과 어긋난 값 보정은 CounterReconciliationJob 이 주기적으로 처리합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CounterService {
+
+    private final CounterRepository counterRepository;
+    private final CommentRepository commentRepository;
+    private final DiaryRepository diaryRepository;
+    private final FriendRepository friendRepository;
+
+    /**
+     * 카운터를 delta 만큼 증감합니다. 원본 데이터 변경 후 같은 트랜잭션에서 호출해야 합니다.
+     */
+    @Transactional
+    public void increment(CounterType type, String ownerId, long delta) {
+        int updated = counterRepository.addDelta(type.name(), ownerId, delta);
+        if (updated == 0) {
+            // 카운터가 없으면 원본에서 셉니다. (방금 반영된 변경이 포함되므로 delta 는 더하지 않습니다)
+            counterRepository.insertIfAbsent(type.name(), ownerId, countFromSource(type, ownerId));
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public long get(CounterType type, String ownerId) {
+        return counterRepository.findById(new CounterID(type, ownerId))
+                .map(Counter::getValue)
+                .orElseGet(() -> countFromSource(type, ownerId));
+    }
+
+    /**
+     * 여러 일기의 댓글 수를 한 번에 조회합니다. 카운터가 없는 일기는 원본에서 한 번에 셉니다.
+     *
+     * @return 일기 ID 별 댓글 수
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Long> getDiaryCommentCounts(Collection<Long> diaryIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        if (diaryIds.isEmpty()) {
+            return counts;
+        }
+        List<String> ownerIds = diaryIds.stream().map(String::valueOf).toList();
+        for (Counter counter : counterRepository.findByTypeAndOwnerIdIn(CounterType.DIARY_COMMENTS, ownerIds)) {
+            counts.put(Long.valueOf(counter.getOwnerId()), counter.getValue());
+        }
+
+        List<Long> missing = diaryIds.stream().filter(id -> !counts.containsKey(id)).toList();
+        if (!missing.isEmpty()) {
+            Map<Long, Long> sourceCounts = commentRepository.countAllByDiaryIdIn(missing).stream()
+                    .collect(Collectors.toMap(DiaryCommentCountDto::getDiaryId, DiaryCommentCountDto::getCount));
+            for (Long diaryId : missing) {
+                counts.put(diaryId, sourceCounts.getOrDefault(diaryId, 0L));
+            }
+        }
+        return counts;
+    }
+
+    private long countFromSource(CounterType type, String ownerId) {
+        return switch (type) {
+            case DIARY_COMMENTS -> commentRepository.countAllByDiaryId(Long.valueOf(ownerId));
+            case USER_DIARIES -> diaryRepository.countByUserId(ownerId);
+            case USER_FRIENDS -> friendRepository.countByUserId1OrUserId2(ownerId, ownerId);
+        };
+    }
+}
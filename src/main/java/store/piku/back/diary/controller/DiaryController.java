@@ -1,6 +1,7 @@
 package store.piku.back.diary.controller;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.Parameters;
@@ -10,17 +11,20 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springdoc.core.annotations.ParameterObject;
-import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -30,18 +34,37 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import store.piku.back.diary.dto.CalendarDiaryResponseDTO;
 import store.piku.back.diary.dto.DiaryDTO;
+import store.piku.back.diary.dto.DiaryImportRequestDTO;
+import store.piku.back.diary.dto.DiaryImportSummaryDTO;
+import store.piku.back.diary.dto.FeedCursor;
+import store.piku.back.diary.dto.FeedSliceResponseDTO;
+import store.piku.back.diary.dto.PhotoUploadUrlRequestDTO;
+import store.piku.back.diary.dto.PhotoUploadUrlResponseDTO;
 import store.piku.back.diary.dto.ResponseDTO;
 import store.piku.back.diary.dto.ResponseDiaryDTO;
+import store.piku.back.diary.exception.InvalidFeedCursorException;
+import store.piku.back.diary.service.DiaryExportService;
+import store.piku.back.diary.service.DiaryImportService;
 import store.piku.back.diary.service.DiaryService;
 import store.piku.back.diary.service.FeedService;
 import store.piku.back.file.FileUtil;
+import store.piku.back.file.StaticFileSender;
 import store.piku.back.global.config.CustomUserDetails;
 import store.piku.back.global.dto.RequestMetaInfo;
 import store.piku.back.global.util.RequestMetaMapper;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 @Tag(name = "Diary", description = "일기 관련 API")
 @RestController
@@ -50,14 +73,21 @@ import java.util.Set;
 @RequiredArgsConstructor
 public class DiaryController {
 
+    private static final String NDJSON_VALUE = "application/x-ndjson";
+    private static final CacheControl IMMUTABLE_IMAGE_CACHE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+
     private final FeedService feedService;
     private final DiaryService diaryservice;
     private final FileUtil fileUtil;
+    private final StaticFileSender staticFileSender;
     private final RequestMetaMapper requestMetaMapper;
     private final Validator validator;
+    private final DiaryImportService diaryImportService;
+    private final DiaryExportService diaryExportService;
+    private final ObjectMapper objectMapper;
 
 
-    @Operation(summary = "일기 생성", description = "일기 내용과 사진을 받아 새로운 일기를 생성합니다. `multipart/form-data` 형식으로 요청해야 합니다.")
+    @Operation(summary = "일기 생성", description = "일기 내용과 사진을 받아 새로운 일기를 생성합니다. `multipart/form-data` 형식으로 요청해야 합니다. 업로드 URL로 직접 올린 사진은 photos 없이 imageInfos.objectKey 로 전달합니다.")
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<ResponseDiaryDTO> createDiary(
             @Parameter(description = "일기 데이터 (JSON 형식)", schema = @Schema(implementation = DiaryDTO.class))
@@ -93,6 +123,89 @@ public class DiaryController {
 
 
 
+    @Operation(summary = "사진 업로드 URL 발급", description = "사진을 스토리지에 직접 올릴 수 있는 미리 서명된 PUT URL을 발급합니다. 업로드 후 일기 생성 시 imageInfos.objectKey 에 받은 객체 키를 담아 보냅니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "발급 성공"),
+            @ApiResponse(responseCode = "400", description = "파일명이 올바르지 않거나 개수가 너무 많음", content = @Content),
+            @ApiResponse(responseCode = "501", description = "저장소가 직접 업로드를 지원하지 않음 (사진을 일기 작성 요청에 함께 보냄)", content = @Content)
+    })
+    @PostMapping("/photos/upload-urls")
+    public ResponseEntity<List<PhotoUploadUrlResponseDTO>> createPhotoUploadUrls(
+            @RequestBody PhotoUploadUrlRequestDTO uploadRequest,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        log.info("{}님 사진 업로드 URL {}개 발급 요청", userDetails.getId(),
+                uploadRequest.getFilenames() == null ? 0 : uploadRequest.getFilenames().size());
+        try {
+            Set<ConstraintViolation<PhotoUploadUrlRequestDTO>> violations = validator.validate(uploadRequest);
+            if (!violations.isEmpty()) {
+                throw new ConstraintViolationException(violations);
+            }
+            return ResponseEntity.ok(diaryservice.createPhotoUploadUrls(uploadRequest, userDetails.getId()));
+        } catch (IllegalArgumentException e) {
+            log.error("사진 업로드 URL 발급 중 오류 발생: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null);
+        }
+    }
+
+    @Operation(summary = "일기 일괄 가져오기", description = "여러 날의 일기를 한 번에 최대 100건까지 가져옵니다. 사진은 업로드 URL로 미리 올린 객체 키로 전달합니다. "
+            + "항목별 결과를 처리되는 대로 한 줄씩 NDJSON(application/x-ndjson)으로 보내며, 마지막 줄은 요약입니다.")
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE, produces = NDJSON_VALUE)
+    public void importDiaries(
+            @RequestBody DiaryImportRequestDTO importRequest,
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            HttpServletResponse response) throws IOException {
+        String userId = userDetails.getId();
+        log.info("{}님 일기 가져오기 요청 - {}건", userId, importRequest.getDiaries() == null ? 0 : importRequest.getDiaries().size());
+        try {
+            diaryImportService.checkRequest(importRequest);
+        } catch (IllegalArgumentException e) {
+            log.error("일기 가져오기 요청 오류: {}", e.getMessage());
+            response.setStatus(HttpStatus.BAD_REQUEST.value());
+            return;
+        }
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        OutputStream out = response.getOutputStream();
+        // 클라이언트 연결이 끊겨도 가져오기는 끝까지 진행합니다.
+        AtomicBoolean connected = new AtomicBoolean(true);
+        Consumer<Object> writeLine = line -> {
+            if (!connected.get()) {
+                return;
+            }
+            try {
+                out.write(objectMapper.writeValueAsBytes(line));
+                out.write('\n');
+                out.flush();
+            } catch (IOException e) {
+                connected.set(false);
+                log.warn("{}님 일기 가져오기 진행 상황 전송 중단: {}", userId, e.getMessage());
+            }
+        };
+
+        DiaryImportSummaryDTO summary = diaryImportService.importDiaries(userId, importRequest.getDiaries(), writeLine::accept);
+        writeLine.accept(summary);
+    }
+
+    @Operation(summary = "일기 내보내기", description = "내 일기 전체와 사진을 ZIP 파일로 내려받습니다. manifest.json 에 일기 목록이, photos/ 아래에 날짜별 사진이 들어 있습니다. 스토리지에 없는 사진은 목록에서 빠지고 missingPhotos 로 개수가 표시되며, 중간에 실패하면 ERROR.txt 가 들어 있습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "ZIP 스트림"),
+            @ApiResponse(responseCode = "429", description = "진행 중인 내보내기가 많음", content = @Content)
+    })
+    @GetMapping("/export")
+    public void exportDiaries(@AuthenticationPrincipal CustomUserDetails userDetails, HttpServletResponse response) throws IOException {
+        String userId = userDetails.getId();
+        log.info("{}님 일기 내보내기 요청", userId);
+        diaryExportService.export(userId, () -> {
+            String filename = "piku-diaries-" + LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE) + ".zip";
+            response.setStatus(HttpStatus.OK.value());
+            response.setContentType("application/zip");
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString());
+            return response.getOutputStream();
+        });
+    }
+
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "일기 조회 성공",
                     content = @Content(mediaType = "application/json",
@@ -118,20 +231,16 @@ public class DiaryController {
     // 이미지 파일 직접 스트림으로 반환하는 API 추가 ( 재요청 )
     @Operation(summary = "일기 이미지 조회", description = "일기에 첨부된 이미지를 조회합니다.")
     @GetMapping("/images/{userId}/{filename:.+}")
-    public ResponseEntity<Resource> getFile(@Parameter(description = "사용자 ID") @PathVariable String userId, @Parameter(description = "이미지 파일명") @PathVariable String filename) {
-        log.info("이미지 파일 요청 - userId: {}, filename: {}", userId, filename);
+    public void getFile(@Parameter(description = "사용자 ID") @PathVariable String userId, @Parameter(description = "이미지 파일명") @PathVariable String filename,
+                        HttpServletRequest request, HttpServletResponse response) throws IOException {
+        log.debug("이미지 파일 요청 - userId: {}, filename: {}", userId, filename);
         try {
-            Resource resource = fileUtil.loadFileAsResource(userId + "/" + filename);
-            String contentType = fileUtil.getContentType(filename);
-
-            return ResponseEntity.ok()
-                    .contentType(MediaType.parseMediaType(contentType))
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + resource.getFilename() + "\"")
-                    .body(resource);
-
-        } catch (Exception e) {
-            log.error("이미지 파일 로드 실패 - userId: {}, filename: {}, error: {}", userId, filename, e.getMessage(), e);
-            return ResponseEntity.notFound().build();
+            // 저장 파일명에 시각과 UUID 가 들어가 내용이 바뀌지 않으므로 오래 캐시합니다.
+            staticFileSender.send(fileUtil.resolveUploadFile(userId + "/" + filename), fileUtil.getContentType(filename),
+                    IMMUTABLE_IMAGE_CACHE, request, response);
+        } catch (NoSuchFileException | IllegalArgumentException e) {
+            log.warn("이미지 파일 로드 실패 - userId: {}, filename: {}, error: {}", userId, filename, e.getMessage());
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
         }
     }
 
@@ -154,6 +263,28 @@ public class DiaryController {
         return ResponseEntity.ok(diaries);
     }
 
+    @Operation(summary = "기간별 일기 목록 조회", description = "특정 사용자의 여러 달 일기 목록을 한 번에 조회합니다. (캘린더용, 최대 12개월)")
+    @Parameters({
+            @Parameter(name = "userId", description = "사용자 ID", required = true),
+            @Parameter(name = "from", description = "시작 월 (yyyy-MM)", required = true),
+            @Parameter(name = "to", description = "끝 월 (yyyy-MM)", required = true)
+    })
+    @GetMapping("/user/{userId}/calendar")
+    public ResponseEntity<List<CalendarDiaryResponseDTO>> getCalendarDiaries(
+            @PathVariable String userId,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth to,
+            HttpServletRequest request
+    ) {
+        try {
+            RequestMetaInfo requestMetaInfo = requestMetaMapper.extractMetaInfo(request);
+            return ResponseEntity.ok(diaryservice.findCalendarDiaries(userId, from, to, requestMetaInfo));
+        } catch (IllegalArgumentException e) {
+            log.warn("기간별 일기 목록 조회 실패: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
 
 
 
@@ -186,5 +317,37 @@ public class DiaryController {
     }
 
 
+    @ApiResponses(value ={@ApiResponse(responseCode = "200",description = "일기 조회 성공 ", content = @Content(schema = @Schema(implementation = FeedSliceResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 커서", content = @Content)})
+    @Operation(
+            summary = "일기 전체 조회 (커서 기반)",
+            description = """
+        이전 응답의 nextCursor 를 cursor 로 보내면 다음 페이지를 조회합니다.
+        - cursor: 첫 페이지는 생략
+        - size: 1~100 사이 정수
+        - hasNext 가 false 이면 마지막 페이지입니다.
+    """
+    )
+    @GetMapping("/feed")
+    public ResponseEntity<FeedSliceResponseDTO> getDiariesByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            HttpServletRequest request,
+            @AuthenticationPrincipal CustomUserDetails customUserDetails) {
+
+        int safeSize = Math.min(Math.max(size, 1), 100);
+        FeedCursor feedCursor;
+        try {
+            feedCursor = FeedCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            log.warn("커서 기반 피드 조회 실패: {}", e.getMessage());
+            throw new InvalidFeedCursorException();
+        }
+        RequestMetaInfo requestMetaInfo = requestMetaMapper.extractMetaInfo(request);
+        FeedSliceResponseDTO slice = feedService.getDiariesByCursor(feedCursor, safeSize, requestMetaInfo, customUserDetails.getId());
+        return ResponseEntity.ok(slice);
+    }
+
+
 
 }
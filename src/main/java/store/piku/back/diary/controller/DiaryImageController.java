@@ -0,0 +1,62 @@
+package store.piku.back.diary.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import store.piku.back.diary.enums.PhotoVariant;
+import store.piku.back.diary.service.DiaryImageService;
+
+import java.net.URI;
+
+@Tag(name = "Image", description = "일기 사진 게이트웨이 API")
+@RestController
+@Slf4j
+@RequestMapping("/api/images")
+@RequiredArgsConstructor
+public class DiaryImageController {
+
+    private final DiaryImageService diaryImageService;
+
+    @Operation(summary = "일기 사진 조회", description = "URL 서명을 확인한 뒤 미리 서명된 스토리지 URL로 리다이렉트합니다. 피드, 캘린더, 상세, 알림 응답의 사진 URL이 이 주소이며, "
+            + "img 태그로 열 수 있도록 인증 헤더 대신 응답에 포함된 exp, sig 쿼리로 확인합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "302", description = "스토리지 URL로 이동", content = @Content),
+            @ApiResponse(responseCode = "400", description = "지원하지 않는 크기", content = @Content),
+            @ApiResponse(responseCode = "403", description = "서명이 없거나 맞지 않거나 만료됨", content = @Content),
+            @ApiResponse(responseCode = "404", description = "사진을 찾을 수 없음", content = @Content)
+    })
+    @GetMapping("/{photoId}/{variant}")
+    public ResponseEntity<Void> getPhoto(
+            @Parameter(description = "사진 ID") @PathVariable int photoId,
+            @Parameter(description = "사진 크기 (thumb, card, full)") @PathVariable String variant,
+            @Parameter(description = "URL 만료 시각 (epoch 초)") @RequestParam(name = "exp", required = false) Long expiresAt,
+            @Parameter(description = "URL 서명") @RequestParam(name = "sig", required = false) String signature
+    ) {
+        PhotoVariant photoVariant;
+        try {
+            photoVariant = PhotoVariant.fromSuffix(variant);
+        } catch (IllegalArgumentException e) {
+            log.warn("일기 사진 조회 실패: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+
+        String url = diaryImageService.getPhotoUrl(photoId, photoVariant, expiresAt, signature);
+        return ResponseEntity.status(HttpStatus.FOUND)
+                .location(URI.create(url))
+                .cacheControl(CacheControl.maxAge(diaryImageService.redirectMaxAge(expiresAt)).cachePrivate())
+                .build();
+    }
+}
@@ -0,0 +1,9 @@
+package store.piku.back.diary.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 캘린더 조회용 프로젝션 (일기 ID, 날짜, 대표 사진 ID)
+ */
+public record CalendarEntry(Long diaryId, LocalDate date, Integer coverPhotoId) {
+}
@@ -25,4 +25,7 @@ public class DiaryImageInfo {
 
     @Schema(description = "업로드한 사진의 인덱스 (type이 UPLOAD일 경우, photos 리스트의 인덱스)")
     private Integer photoIndex;
+
+    @Schema(description = "미리 서명된 URL로 직접 업로드한 사진의 객체 키 (type이 UPLOAD일 경우, photoIndex 대신 사용)")
+    private String objectKey;
 }
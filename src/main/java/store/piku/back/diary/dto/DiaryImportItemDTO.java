@@ -0,0 +1,37 @@
+package store.piku.back.diary.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import store.piku.back.diary.enums.Status;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "가져올 일기 한 건")
+public class DiaryImportItemDTO {
+
+    @NotNull(message = "공개범위는 필수입니다.")
+    @Schema(description = "공개범위")
+    private Status status;
+
+    @NotBlank(message = "일기 내용은 비어 있을 수 없습니다.")
+    @Size(max = 500, message = "일기 내용은 최대 500자까지 입력할 수 있습니다.")
+    @Schema(description = "일기 내용")
+    private String content;
+
+    @NotNull(message = "일기 날짜는 필수입니다.")
+    @Schema(description = "일기 날짜")
+    private LocalDate date;
+
+    @Size(max = 10, message = "사진은 최대 10장까지 가져올 수 있습니다.")
+    @Schema(description = "업로드 URL로 올린 사진의 객체 키 목록 (순서대로 저장되며 첫 번째가 대표 사진)")
+    private List<String> photoKeys;
+}
@@ -0,0 +1,18 @@
+package store.piku.back.diary.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "일기 일괄 가져오기 요청 DTO")
+public class DiaryImportRequestDTO {
+
+    @Schema(description = "가져올 일기 목록")
+    private List<DiaryImportItemDTO> diaries;
+}
@@ -0,0 +1,31 @@
+package store.piku.back.diary.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import store.piku.back.diary.enums.DiaryImportResult;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "일기 가져오기 항목별 결과")
+public class DiaryImportResultDTO {
+
+    @Schema(description = "요청 목록에서의 인덱스")
+    private int index;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate date;
+
+    private DiaryImportResult result;
+
+    @Schema(description = "생성된 일기 ID (CREATED 인 경우)")
+    private Long diaryId;
+
+    @Schema(description = "실패 사유")
+    private String message;
+}
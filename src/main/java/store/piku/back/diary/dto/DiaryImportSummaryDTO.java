@@ -0,0 +1,19 @@
+package store.piku.back.diary.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "일기 가져오기 요약 (스트림의 마지막 줄)")
+public class DiaryImportSummaryDTO {
+
+    private int total;
+    private int created;
+    private int duplicated;
+    private int invalid;
+    private int failed;
+}
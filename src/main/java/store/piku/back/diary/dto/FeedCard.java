@@ -0,0 +1,32 @@
+package store.piku.back.diary.dto;
+
+import store.piku.back.diary.enums.FriendStatus;
+import store.piku.back.diary.enums.Status;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 요청 정보와 무관한 피드 항목 데이터 (캐시 저장용)
+ * 사진은 이미지 게이트웨이 경로(예: 42/card)를, 아바타는 저장 경로를 보관하며 응답 시점에 요청 주소를 붙여 URL 로 변환합니다.
+ */
+public record FeedCard(
+        Long diaryId,
+        Status status,
+        String content,
+        List<String> photoPaths,
+        LocalDate date,
+        String nickname,
+        String avatarPath,
+        String userId,
+        LocalDateTime createdAt,
+        FriendStatus friendStatus,
+        Long commentCount
+) {
+
+    public FeedCard withFriendStatus(FriendStatus friendStatus) {
+        return new FeedCard(diaryId, status, content, photoPaths, date, nickname, avatarPath, userId,
+                createdAt, friendStatus, commentCount);
+    }
+}
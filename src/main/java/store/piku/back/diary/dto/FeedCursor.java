@@ -0,0 +1,88 @@
+package store.piku.back.diary.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 커서 기반 피드 조회의 이어보기 위치.
+ * 우선순위 티어(안 읽은 친구공개, 안 읽은 전체공개, 최근 읽은 피드)별로 마지막으로 읽은 항목의 (작성 시각, 일기 ID)를 담습니다.
+ * 가져온 일기는 작성 시각이 같은 경우가 많으므로(날짜 0시) 작성 시각만으로는 같은 시각의 나머지 항목을 건너뛰게 되어,
+ * 같은 시각 안에서는 타임라인(Redis Sorted Set)과 같은 순서인 일기 ID 문자열의 사전순으로 이어 읽습니다.
+ * START 는 아직 읽지 않은 티어, EXHAUSTED 는 모두 읽은 티어를 뜻합니다.
+ */
+public record FeedCursor(Position unreadFriend, Position unreadPublic, Position recentClicked) {
+
+    public static final Position START = new Position(Long.MAX_VALUE, Long.MAX_VALUE);
+    public static final Position EXHAUSTED = new Position(0L, 0L);
+
+    public static FeedCursor first() {
+        return new FeedCursor(START, START, START);
+    }
+
+    public boolean hasNext() {
+        return !unreadFriend.equals(EXHAUSTED) || !unreadPublic.equals(EXHAUSTED) || !recentClicked.equals(EXHAUSTED);
+    }
+
+    /**
+     * 클라이언트에 전달할 불투명 토큰으로 인코딩합니다.
+     */
+    public String encode() {
+        String raw = unreadFriend.encode() + ":" + unreadPublic.encode() + ":" + recentClicked.encode();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 토큰을 해석합니다. 토큰이 없으면 첫 페이지 커서를 반환합니다.
+     *
+     * @throws IllegalArgumentException 토큰 형식이 올바르지 않을 경우
+     */
+    public static FeedCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return first();
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다: " + token);
+            }
+            return new FeedCursor(Position.decode(parts[0]), Position.decode(parts[1]), Position.decode(parts[2]));
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException 및 Base64 디코딩 오류 포함
+            throw new IllegalArgumentException("유효하지 않은 커서입니다: " + token, e);
+        }
+    }
+
+    /**
+     * 한 티어에서 마지막으로 읽은 항목의 위치. 이 위치보다 뒤(오래된) 항목부터 이어 읽습니다.
+     */
+    public record Position(long createdAt, long diaryId) {
+
+        public static Position of(TimelineEntry entry) {
+            return new Position(entry.createdAt(), entry.diaryId());
+        }
+
+        /**
+         * 항목이 이 위치보다 뒤(최신순 정렬에서 다음)에 오는지 확인합니다.
+         * 작성 시각이 같으면 일기 ID 문자열의 사전순으로 비교합니다. (TimelineEntry.NEWEST_FIRST 와 같은 순서)
+         */
+        public boolean precedes(TimelineEntry entry) {
+            if (entry.createdAt() != createdAt) {
+                return entry.createdAt() < createdAt;
+            }
+            return String.valueOf(entry.diaryId()).compareTo(String.valueOf(diaryId)) < 0;
+        }
+
+        private String encode() {
+            return createdAt + "," + diaryId;
+        }
+
+        private static Position decode(String raw) {
+            int separator = raw.indexOf(',');
+            if (separator < 0) {
+                throw new IllegalArgumentException("유효하지 않은 커서 위치입니다: " + raw);
+            }
+            return new Position(Long.parseLong(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)));
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package store.piku.back.diary.dto;
+
+import java.util.List;
+
+/**
+ * 사용자별 피드 캐시 항목 (앞쪽 N 개 피드 + 전체 피드 수)
+ */
+public record FeedPageSnapshot(int total, List<FeedCard> cards) {
+}
@@ -0,0 +1,7 @@
+package store.piku.back.diary.dto;
+
+/**
+ * 피드 목록 조회용 사진 정보 (Photo 엔티티를 로딩하지 않는 프로젝션)
+ */
+public record FeedPhoto(Long diaryId, int photoId, String url, Boolean represent, int variants) {
+}
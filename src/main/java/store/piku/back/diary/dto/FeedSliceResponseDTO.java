@@ -0,0 +1,22 @@
+package store.piku.back.diary.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Schema(description = "커서 기반 피드 조회 응답DTO")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FeedSliceResponseDTO {
+
+    private List<ResponseDTO> content;
+
+    @Schema(description = "다음 페이지 조회 시 전달할 커서 (마지막 페이지면 null)")
+    private String nextCursor;
+
+    private boolean hasNext;
+}
@@ -0,0 +1,16 @@
+package store.piku.back.diary.dto;
+
+import store.piku.back.diary.enums.PhotoVariant;
+
+/**
+ * 이미지 게이트웨이용 사진 객체 정보 (Photo 엔티티를 로딩하지 않는 프로젝션)
+ */
+public record PhotoKey(String url, int variants) {
+
+    /**
+     * 필요한 크기에 맞는 변형 이미지 키를 반환합니다. 변형이 없으면 원본 키를 반환합니다.
+     */
+    public String variantKey(PhotoVariant wanted) {
+        return PhotoVariant.select(url, variants, wanted);
+    }
+}
@@ -0,0 +1,26 @@
+package store.piku.back.diary.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "사진 업로드 URL 발급 요청 DTO")
+public class PhotoUploadUrlRequestDTO {
+
+    @NotNull
+    @Schema(description = "일기 날짜 (파일명 생성에 사용)")
+    private LocalDate date;
+
+    @NotEmpty(message = "업로드할 사진 파일명이 비어 있습니다.")
+    @Schema(description = "업로드할 사진의 원본 파일명 목록")
+    private List<String> filenames;
+}
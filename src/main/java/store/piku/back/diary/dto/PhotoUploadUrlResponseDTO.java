@@ -0,0 +1,22 @@
+package store.piku.back.diary.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "사진 업로드 URL 응답 DTO")
+public class PhotoUploadUrlResponseDTO {
+
+    @Schema(description = "일기 작성 시 imageInfos.objectKey 로 보낼 객체 키")
+    private String objectKey;
+
+    @Schema(description = "사진을 PUT 으로 올릴 미리 서명된 URL")
+    private String uploadUrl;
+
+    @Schema(description = "업로드 시 Content-Type 헤더로 보내야 하는 값")
+    private String contentType;
+}
@@ -0,0 +1,29 @@
+package store.piku.back.diary.dto;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * 피드 후보 일기 중 사용자가 이미 클릭한 일기 ID 집합
+ */
+public final class SeenDiaries {
+
+    private static final SeenDiaries EMPTY = new SeenDiaries(Set.of());
+
+    private final Set<Long> diaryIds;
+
+    private SeenDiaries(Set<Long> diaryIds) {
+        this.diaryIds = diaryIds;
+    }
+
+    /**
+     * 클릭한 일기 ID 목록으로 만듭니다. 후보 일기만 조회한 결과를 담을 때 사용합니다.
+     */
+    public static SeenDiaries ofIds(Collection<Long> diaryIds) {
+        return diaryIds.isEmpty() ? EMPTY : new SeenDiaries(Set.copyOf(diaryIds));
+    }
+
+    public boolean contains(Long diaryId) {
+        return diaryId != null && diaryIds.contains(diaryId);
+    }
+}
@@ -0,0 +1,27 @@
+package store.piku.back.diary.dto;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+
+/**
+ * 피드 타임라인의 한 항목 (일기 ID + 작성 시각 epoch millis)
+ */
+public record TimelineEntry(Long diaryId, long createdAt) {
+
+    /**
+     * 타임라인(Redis Sorted Set)의 역순 조회와 같은 순서. 작성 시각 내림차순, 같으면 일기 ID 문자열의 사전순 내림차순입니다.
+     */
+    public static final Comparator<TimelineEntry> NEWEST_FIRST = Comparator.comparingLong(TimelineEntry::createdAt)
+            .thenComparing(entry -> String.valueOf(entry.diaryId()))
+            .reversed();
+
+    // JPQL 생성자 표현식용
+    public TimelineEntry(Long diaryId, LocalDateTime createdAt) {
+        this(diaryId, toEpochMilli(createdAt));
+    }
+
+    public static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
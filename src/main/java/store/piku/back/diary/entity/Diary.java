@@ -10,7 +10,12 @@ import store.piku.back.user.entity.User;
 import java.time.LocalDate;
 
 @Entity
-@Table
+@Table(indexes = {
+        @Index(name = "idx_diary_status_created_at", columnList = "status, created_at")
+}, uniqueConstraints = {
+        // 사용자당 하루 한 편. 날짜 중복 확인과 저장 사이에 들어온 요청도 DB 에서 막습니다.
+        @UniqueConstraint(name = "uk_diary_user_id_date", columnNames = {"user_id", "date"})
+})
 @NoArgsConstructor
 @Getter
 public class Diary extends BaseEntity {
@@ -0,0 +1,32 @@
+package store.piku.back.diary.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import store.piku.back.diary.key.DiaryMonthCountID;
+
+/**
+ * 사용자별 월별 일기 수 집계
+ * month_key 는 yyyyMM 형식의 정수이며, 0 은 해당 사용자의 집계가 만들어졌음을 나타내는 표시 행입니다.
+ */
+@IdClass(DiaryMonthCountID.class)
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "diary_month_count")
+@Getter
+public class DiaryMonthCount {
+
+    public static final int SEEDED_MARKER = 0;
+
+    @Id
+    @Column(name = "user_id", length = 36)
+    private String userId;
+
+    @Id
+    @Column(name = "month_key")
+    private int monthKey;
+
+    @Column(name = "count_value", nullable = false)
+    private long value;
+}
@@ -1,14 +1,23 @@
 package store.piku.back.diary.entity;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
 
+// FeedClickBuffer 가 JDBC 로 직접 INSERT 하므로 테이블/컬럼명을 고정합니다.
 @Entity
+@Table(name = "feed_click", indexes = {
+        @Index(name = "idx_feed_click_user_id_clicked_at", columnList = "user_id, clicked_at"),
+        @Index(name = "idx_feed_click_clicked_at", columnList = "clicked_at")
+})
 @Getter
 @NoArgsConstructor
 public class FeedClick {
@@ -17,12 +26,21 @@ public class FeedClick {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @Column(name = "user_id")
     private String userId;
 
+    @Column(name = "diary_id")
     private Long diaryId;
 
+    // 보존 기간이 지나면 FeedSeen 읽은 일기 목록으로 압축 후 삭제됩니다.
+    // 컬럼이 추가될 때 그 이전에 저장된 클릭은 기본값(1970-01-01)으로 채워져 다음 압축 때 바로 정리됩니다.
+    @Column(name = "clicked_at", nullable = false,
+            columnDefinition = "DATETIME(6) NOT NULL DEFAULT '1970-01-01 00:00:00'")
+    private LocalDateTime clickedAt;
+
     public FeedClick(String userId, Long diaryId) {
         this.userId = userId;
         this.diaryId = diaryId;
+        this.clickedAt = LocalDateTime.now();
     }
 }
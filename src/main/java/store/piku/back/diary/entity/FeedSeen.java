@@ -0,0 +1,92 @@
+package store.piku.back.diary.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * 보존 기간이 지난 피드 클릭을 압축해 둔 사용자별 읽은 일기 목록
+ * 가장 큰 일기 ID 부터 정해진 개수만 남기고(Redis 의 읽은 피드 목록과 같은 기준),
+ * 오름차순으로 정렬한 ID 의 차이를 가변 길이 정수(7비트씩, 상위 비트는 다음 바이트 여부)로 저장합니다.
+ * 크기는 읽은 일기 수에 비례하며 ID 사이 간격이 작을수록 작아집니다. (보통 ID 하나에 1~3바이트)
+ */
+@Entity
+@Table(name = "feed_seen")
+@Getter
+@NoArgsConstructor
+public class FeedSeen {
+
+    @Id
+    @Column(name = "user_id")
+    private String userId;
+
+    @Column(name = "diary_ids", columnDefinition = "BLOB")
+    private byte[] diaryIdsData;
+
+    public FeedSeen(String userId) {
+        this.userId = userId;
+        this.diaryIdsData = new byte[0];
+    }
+
+    /**
+     * 저장된 일기 ID 목록 (오름차순)
+     */
+    public List<Long> getDiaryIds() {
+        List<Long> diaryIds = new ArrayList<>();
+        if (diaryIdsData == null) {
+            return diaryIds;
+        }
+        long previous = 0;
+        long delta = 0;
+        int shift = 0;
+        for (byte b : diaryIdsData) {
+            delta |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) != 0) {
+                shift += 7;
+                continue;
+            }
+            previous += delta;
+            diaryIds.add(previous);
+            delta = 0;
+            shift = 0;
+        }
+        return diaryIds;
+    }
+
+    /**
+     * 일기 ID 들을 추가하고 가장 큰 ID 부터 maxSize 개만 남깁니다.
+     */
+    public void addDiaryIds(Collection<Long> diaryIds, int maxSize) {
+        TreeSet<Long> merged = new TreeSet<>(getDiaryIds());
+        for (Long diaryId : diaryIds) {
+            if (diaryId != null && diaryId > 0) {
+                merged.add(diaryId);
+            }
+        }
+        while (merged.size() > maxSize) {
+            merged.pollFirst();
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(merged.size() * 2);
+        long previous = 0;
+        for (long diaryId : merged) {
+            long delta = diaryId - previous;
+            while ((delta & ~0x7FL) != 0) {
+                out.write((int) ((delta & 0x7F) | 0x80));
+                delta >>>= 7;
+            }
+            out.write((int) delta);
+            previous = diaryId;
+        }
+        this.diaryIdsData = out.toByteArray();
+    }
+}
@@ -5,10 +5,11 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import store.piku.back.diary.enums.PhotoVariant;
 
 
 @Entity
-@Table(name = "photos")
+@Table(name = "photos", indexes = @Index(name = "idx_photos_url", columnList = "url"))
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
@@ -29,6 +30,10 @@ public class Photo {
     @JsonBackReference
     private Diary diary;
 
+    // 생성된 변형 이미지 비트 (PhotoVariant.bit() 조합, 0 이면 원본만 존재)
+    @Column(nullable = false, columnDefinition = "INT NOT NULL DEFAULT 0")
+    private int variants;
+
 
     public Photo(Diary diary, String url, Integer photoOrder) {
         this.diary = diary;
@@ -40,4 +45,11 @@ public class Photo {
     public void updateRepresent(Boolean represent) {
         this.represent = represent;
     }
+
+    /**
+     * 필요한 크기에 맞는 변형 이미지 키를 반환합니다. 변형이 없으면 원본 키를 반환합니다.
+     */
+    public String variantKey(PhotoVariant wanted) {
+        return PhotoVariant.select(url, variants, wanted);
+    }
 }
@@ -0,0 +1,37 @@
+package store.piku.back.diary.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내용 해시로 저장된 공유 사진 객체의 참조 수
+ * 여러 Photo 행이 같은 객체 키를 가리킬 수 있으며, 참조가 없는 객체는 유예 시간이 지나면 정리됩니다.
+ * 정리 작업이 스토리지 객체를 지우는 동안에는 deletingAt 이 채워져 있어, 그 사이 등록한 업로드는 이 객체를 재사용하지 않습니다.
+ */
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "photo_objects",
+        indexes = {
+                @Index(name = "idx_photo_objects_ref_count_updated_at", columnList = "ref_count, updated_at"),
+                @Index(name = "idx_photo_objects_deleting_at", columnList = "deleting_at")
+        })
+@Getter
+public class PhotoObject {
+
+    @Id
+    @Column(name = "object_key", length = 100)
+    private String objectKey;
+
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "deleting_at")
+    private LocalDateTime deletingAt;
+}
@@ -0,0 +1,37 @@
+package store.piku.back.diary.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 직접 업로드용으로 발급한 사진 객체 키
+ * 일기나 가져오기에서 사진 행을 저장할 때 한 번만 사용(삭제)할 수 있으며,
+ * 유예 시간이 지나도록 사용되지 않은 키는 정리 작업이 스토리지 객체와 함께 삭제합니다.
+ */
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "photo_upload_grants",
+        indexes = @Index(name = "idx_photo_upload_grants_issued_at", columnList = "issued_at"))
+@Getter
+public class PhotoUploadGrant {
+
+    @Id
+    @Column(name = "object_key")
+    private String objectKey;
+
+    @Column(name = "user_id", length = 36, nullable = false)
+    private String userId;
+
+    @Column(name = "issued_at", nullable = false)
+    private LocalDateTime issuedAt;
+
+    public PhotoUploadGrant(String objectKey, String userId, LocalDateTime issuedAt) {
+        this.objectKey = objectKey;
+        this.userId = userId;
+        this.issuedAt = issuedAt;
+    }
+}
@@ -0,0 +1,8 @@
+package store.piku.back.diary.enums;
+
+public enum DiaryImportResult {
+    CREATED,    // 저장됨
+    DUPLICATE,  // 해당 날짜에 이미 일기가 있음
+    INVALID,    // 입력값 또는 사진 확인 실패
+    FAILED      // 저장 중 오류
+}
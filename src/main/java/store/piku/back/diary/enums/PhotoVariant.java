@@ -0,0 +1,75 @@
+package store.piku.back.diary.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 일기 사진의 크기별 변형 이미지 (JPEG)
+ * 작은 것부터 선언하며, Photo.variants 에는 생성된 변형의 bit() 가 OR 로 저장됩니다.
+ */
+@Getter
+@AllArgsConstructor
+public enum PhotoVariant {
+    THUMBNAIL("thumb", 240),
+    CARD("card", 720),
+    FULL("full", 1440);
+
+    private final String suffix;
+    private final int maxWidth;
+
+    public int bit() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * 원본 객체 키로부터 변형 이미지 키를 만듭니다. (예: user/20250101_ab12cd34.png → user/20250101_ab12cd34_thumb.jpg)
+     */
+    public String keyFor(String originalKey) {
+        int slash = originalKey.lastIndexOf('/');
+        int dot = originalKey.lastIndexOf('.');
+        String base = dot > slash ? originalKey.substring(0, dot) : originalKey;
+        return base + "_" + suffix + ".jpg";
+    }
+
+    /**
+     * 이미지 게이트웨이(/api/images) 경로를 만듭니다. (예: 42/thumb)
+     * 실제 객체 키는 리다이렉트 시점에 정해지므로 변형 생성 여부와 관계없이 같은 경로를 유지합니다.
+     */
+    public String pathFor(int photoId) {
+        return photoId + "/" + suffix;
+    }
+
+    /**
+     * 경로에 쓰인 이름(thumb, card, full)으로 변형을 찾습니다.
+     *
+     * @throws IllegalArgumentException 알 수 없는 이름인 경우
+     */
+    public static PhotoVariant fromSuffix(String suffix) {
+        for (PhotoVariant variant : values()) {
+            if (variant.suffix.equals(suffix)) {
+                return variant;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 이미지 크기: " + suffix);
+    }
+
+    /**
+     * 요청한 크기 이상인 변형 중 가장 작은 것의 키를 반환합니다.
+     * 생성된 변형이 없으면 원본 키를 그대로 반환합니다.
+     *
+     * @param originalKey 원본 객체 키 (null 이면 null 반환)
+     * @param variants 생성된 변형 비트
+     * @param wanted 화면에 필요한 크기
+     */
+    public static String select(String originalKey, int variants, PhotoVariant wanted) {
+        if (originalKey == null) {
+            return null;
+        }
+        for (PhotoVariant variant : values()) {
+            if (variant.ordinal() >= wanted.ordinal() && (variants & variant.bit()) != 0) {
+                return variant.keyFor(originalKey);
+            }
+        }
+        return originalKey;
+    }
+}
@@ -0,0 +1,10 @@
+package store.piku.back.diary.exception;
+
+import store.piku.back.global.error.ErrorCode;
+import store.piku.back.global.exception.BusinessException;
+
+public class DiaryExportBusyException extends BusinessException {
+    public DiaryExportBusyException() {
+        super(ErrorCode.DIARY_EXPORT_BUSY);
+    }
+}
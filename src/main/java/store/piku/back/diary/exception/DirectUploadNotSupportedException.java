@@ -0,0 +1,10 @@
+package store.piku.back.diary.exception;
+
+import store.piku.back.global.error.ErrorCode;
+import store.piku.back.global.exception.BusinessException;
+
+public class DirectUploadNotSupportedException extends BusinessException {
+    public DirectUploadNotSupportedException() {
+        super(ErrorCode.DIRECT_UPLOAD_NOT_SUPPORTED);
+    }
+}
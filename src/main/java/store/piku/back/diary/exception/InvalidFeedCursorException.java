@@ -0,0 +1,10 @@
+package store.piku.back.diary.exception;
+
+import store.piku.back.global.error.ErrorCode;
+import store.piku.back.global.exception.BusinessException;
+
+public class InvalidFeedCursorException extends BusinessException {
+    public InvalidFeedCursorException() {
+        super(ErrorCode.INVALID_FEED_CURSOR);
+    }
+}
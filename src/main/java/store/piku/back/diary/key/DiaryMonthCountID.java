@@ -0,0 +1,18 @@
+package store.piku.back.diary.key;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode
+public class DiaryMonthCountID implements Serializable {
+
+    private String userId;
+    private int monthKey;
+}
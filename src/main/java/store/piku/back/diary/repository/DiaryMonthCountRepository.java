@@ -0,0 +1,67 @@
+package store.piku.back.diary.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import store.piku.back.diary.entity.DiaryMonthCount;
+import store.piku.back.diary.key.DiaryMonthCountID;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface DiaryMonthCountRepository extends JpaRepository<DiaryMonthCount, DiaryMonthCountID> {
+
+    // 표시 행(month_key = 0)과 기간 안의 월을 기본 키 범위로 한 번에 읽습니다.
+    @Query("SELECT c FROM DiaryMonthCount c WHERE c.userId = :userId " +
+            "AND (c.monthKey = 0 OR c.monthKey BETWEEN :fromKey AND :toKey) " +
+            "ORDER BY c.monthKey DESC")
+    List<DiaryMonthCount> findWithMarker(
+            @Param("userId") String userId,
+            @Param("fromKey") int fromKey,
+            @Param("toKey") int toKey
+    );
+
+    @Modifying
+    @Query(value = "UPDATE diary_month_count SET count_value = count_value + :delta " +
+            "WHERE user_id = :userId AND month_key = :monthKey", nativeQuery = true)
+    int addDelta(@Param("userId") String userId, @Param("monthKey") int monthKey, @Param("delta") long delta);
+
+    // 한 달의 일기 수를 원본에서 세어 해당 달 행을 만들거나 덮어씁니다.
+    @Modifying
+    @Query(value = "INSERT INTO diary_month_count (user_id, month_key, count_value) " +
+            "SELECT * FROM (SELECT :userId AS u, :monthKey AS m, COUNT(*) AS cnt " +
+            "FROM diary WHERE user_id = :userId AND date BETWEEN :monthStart AND :monthEnd) AS src " +
+            "ON DUPLICATE KEY UPDATE count_value = src.cnt", nativeQuery = true)
+    int seedMonth(
+            @Param("userId") String userId,
+            @Param("monthKey") int monthKey,
+            @Param("monthStart") LocalDate monthStart,
+            @Param("monthEnd") LocalDate monthEnd
+    );
+
+    // 사용자의 모든 월을 원본에서 다시 세고 표시 행을 만듭니다.
+    @Modifying
+    @Query(value = "INSERT INTO diary_month_count (user_id, month_key, count_value) " +
+            "SELECT * FROM (SELECT user_id AS u, YEAR(date) * 100 + MONTH(date) AS m, COUNT(*) AS cnt " +
+            "FROM diary WHERE user_id = :userId GROUP BY user_id, m " +
+            "UNION ALL SELECT :userId, 0, 0) AS src " +
+            "ON DUPLICATE KEY UPDATE count_value = src.cnt", nativeQuery = true)
+    int seedUser(@Param("userId") String userId);
+
+    // ===== 보정 작업용: 원본 테이블에서 다시 세어 덮어씁니다 =====
+
+    @Modifying
+    @Query(value = "INSERT INTO diary_month_count (user_id, month_key, count_value) " +
+            "SELECT * FROM (SELECT user_id AS u, YEAR(date) * 100 + MONTH(date) AS m, COUNT(*) AS cnt " +
+            "FROM diary GROUP BY user_id, m " +
+            "UNION ALL SELECT DISTINCT user_id, 0, 0 FROM diary) AS src " +
+            "ON DUPLICATE KEY UPDATE count_value = src.cnt", nativeQuery = true)
+    int reconcileAll();
+
+    @Modifying
+    @Query(value = "DELETE FROM diary_month_count WHERE month_key <> 0 AND NOT EXISTS (" +
+            "SELECT 1 FROM diary d WHERE d.user_id = diary_month_count.user_id " +
+            "AND YEAR(d.date) * 100 + MONTH(d.date) = diary_month_count.month_key)", nativeQuery = true)
+    int deleteOrphans();
+}
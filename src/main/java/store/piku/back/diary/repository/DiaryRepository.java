@@ -1,14 +1,18 @@
 package store.piku.back.diary.repository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import store.piku.back.diary.dto.CalendarEntry;
 import store.piku.back.diary.dto.DiaryMonthCountDTO;
+import store.piku.back.diary.dto.TimelineEntry;
 import store.piku.back.diary.entity.Diary;
 import store.piku.back.diary.enums.Status;
 import store.piku.back.user.entity.User;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,38 +20,56 @@ public interface DiaryRepository extends JpaRepository<Diary, Long> {
 
     List<Diary> findByUserIdAndDateBetween(String userId, LocalDate start, LocalDate end);
 
+    @Query("SELECT new store.piku.back.diary.dto.CalendarEntry(d.id, d.date, p.id) FROM Diary d " +
+            "LEFT JOIN Photo p ON p.diary = d AND p.represent = true " +
+            "WHERE d.user.id = :userId AND d.date BETWEEN :start AND :end " +
+            "ORDER BY d.date")
+    List<CalendarEntry> findCalendarEntries(
+            @Param("userId") String userId,
+            @Param("start") LocalDate start,
+            @Param("end") LocalDate end
+    );
+
     Optional<Diary> findByUserAndDate(User user, LocalDate date);
 
+    @Query("SELECT MIN(d.date) FROM Diary d WHERE d.user.id = :userId")
+    LocalDate findFirstDateByUserId(@Param("userId") String userId);
+
+    @Query("SELECT d.date FROM Diary d WHERE d.user.id = :userId AND d.date IN :dates")
+    List<LocalDate> findDatesByUserIdAndDateIn(@Param("userId") String userId, @Param("dates") Collection<LocalDate> dates);
+
     long countByUserId(String userId);
 
+    @EntityGraph(attributePaths = "user")
+    List<Diary> findByIdIn(Collection<Long> ids);
+
 
     @Query(value = "SELECT new store.piku.back.diary.dto.DiaryMonthCountDTO(YEAR(d.date), MONTH(d.date), COUNT(d.id)) " +
             "FROM Diary d " +
             "WHERE d.user.id = :userId " +
             "AND d.date >= :monthsAgo " +
+            "AND d.date <= :until " +
             "GROUP BY YEAR(d.date), MONTH(d.date) " +
             "ORDER BY YEAR(d.date) DESC, MONTH(d.date) DESC")
     List<DiaryMonthCountDTO> countDiariesPerMonth(
             @Param("userId") String userId,
-            @Param("monthsAgo") LocalDate monthsAgo
+            @Param("monthsAgo") LocalDate monthsAgo,
+            @Param("until") LocalDate until
     );
 
 
-    @Query("SELECT d FROM Diary d " +
+    @Query("SELECT new store.piku.back.diary.dto.TimelineEntry(d.id, d.createdAt) FROM Diary d " +
             "WHERE d.status = :status " +
-            "AND d.user.id IN :friendIds " +
-            "AND d.id NOT IN :excludeIds " +
-            "ORDER BY d.createdAt DESC")
-    List<Diary> findUnreadFeedsByVisibilityAndUserIds(
+            "AND d.user.id IN :userIds " +
+            "ORDER BY d.createdAt DESC, d.id DESC")
+    List<TimelineEntry> findTimelineEntriesByStatusAndUserIds(
             @Param("status") Status status,
-            @Param("friendIds") List<String> friendIds,
-            @Param("excludeIds") List<Long> excludeIds
+            @Param("userIds") List<String> userIds,
+            Pageable pageable
     );
 
-
-    @Query("SELECT d FROM Diary d WHERE d.status = 'PUBLIC' AND d.id NOT IN :clickedFeedIds ORDER BY d.createdAt DESC")
-    List<Diary> findUnreadPublicFeeds(@Param("clickedFeedIds") List<Long> clickedFeedIds);
-
-    @Query("SELECT d FROM Diary d WHERE d.id IN :clickedFeedIds AND d.createdAt > :threeDaysAgo")
-    List<Diary> findClickedFeedsAfter(@Param("clickedFeedIds") List<Long> clickedFeedIds,
-                                      @Param("threeDaysAgo") LocalDateTime threeDaysAgo);}
+    @Query("SELECT new store.piku.back.diary.dto.TimelineEntry(d.id, d.createdAt) FROM Diary d " +
+            "WHERE d.status = :status " +
+            "ORDER BY d.createdAt DESC, d.id DESC")
+    List<TimelineEntry> findTimelineEntriesByStatus(@Param("status") Status status, Pageable pageable);
+}
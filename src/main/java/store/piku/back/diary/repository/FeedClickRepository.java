@@ -1,10 +1,13 @@
 package store.piku.back.diary.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import store.piku.back.diary.entity.FeedClick;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface FeedClickRepository extends JpaRepository<FeedClick, Long> {
@@ -13,4 +16,14 @@ public interface FeedClickRepository extends JpaRepository<FeedClick, Long> {
     @Query("SELECT f.diaryId FROM FeedClick f WHERE f.userId = :userId")
     List<Long> findClickedDiaryIdsByUserId(@Param("userId") String userId);
 
+    @Query("SELECT DISTINCT f.userId FROM FeedClick f WHERE f.clickedAt < :cutoff")
+    List<String> findUserIdsWithClicksBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    @Query("SELECT f.diaryId FROM FeedClick f WHERE f.userId = :userId AND f.clickedAt < :cutoff")
+    List<Long> findClickedDiaryIdsBefore(@Param("userId") String userId, @Param("cutoff") LocalDateTime cutoff);
+
+    @Modifying
+    @Query("DELETE FROM FeedClick f WHERE f.userId = :userId AND f.clickedAt < :cutoff")
+    int deleteClicksBefore(@Param("userId") String userId, @Param("cutoff") LocalDateTime cutoff);
+
 }
@@ -0,0 +1,25 @@
+package store.piku.back.diary.repository;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import store.piku.back.diary.entity.FeedSeen;
+
+import java.util.Optional;
+
+public interface FeedSeenRepository extends JpaRepository<FeedSeen, String> {
+
+    // 이미 있으면 그대로 둡니다. (여러 인스턴스가 같은 사용자를 동시에 처음 압축하는 경우)
+    @Modifying
+    @Query(value = "INSERT INTO feed_seen (user_id, diary_ids) VALUES (:userId, '') " +
+            "ON DUPLICATE KEY UPDATE user_id = user_id", nativeQuery = true)
+    int insertIfAbsent(@Param("userId") String userId);
+
+    // 읽은 일기 목록을 읽고 합쳐 저장하는 동안 다른 압축 작업이 같은 행을 덮어쓰지 않도록 잠급니다. (SELECT ... FOR UPDATE)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM FeedSeen s WHERE s.userId = :userId")
+    Optional<FeedSeen> findByIdForUpdate(@Param("userId") String userId);
+}
@@ -0,0 +1,52 @@
+package store.piku.back.diary.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import store.piku.back.diary.entity.PhotoObject;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface PhotoObjectRepository extends JpaRepository<PhotoObject, String> {
+
+    // 업로드 전에 등록합니다. 이미 있으면 정리 유예 시간만 갱신합니다.
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO photo_objects (object_key, ref_count, updated_at) VALUES (:objectKey, 0, :now) " +
+            "ON DUPLICATE KEY UPDATE updated_at = :now", nativeQuery = true)
+    int register(@Param("objectKey") String objectKey, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query(value = "UPDATE photo_objects SET ref_count = ref_count + :delta, updated_at = :now " +
+            "WHERE object_key = :objectKey", nativeQuery = true)
+    int addReferences(@Param("objectKey") String objectKey, @Param("delta") int delta, @Param("now") LocalDateTime now);
+
+    // 이미 삭제 중으로 표시된 행은 제외합니다. (지우다 중단된 행은 findDeletingBefore 로 따로 정리)
+    @Query("SELECT p.objectKey FROM PhotoObject p " +
+            "WHERE p.refCount <= 0 AND p.updatedAt < :cutoff AND p.deletingAt IS NULL ORDER BY p.updatedAt")
+    List<String> findUnreferencedBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    // 삭제 중으로 표시된 뒤 cutoff 까지 지워지지 않은 행 (정리 작업이 스토리지 삭제 도중 중단된 경우)
+    @Query("SELECT p.objectKey FROM PhotoObject p WHERE p.deletingAt < :cutoff ORDER BY p.deletingAt")
+    List<String> findDeletingBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    // 스토리지 객체를 지우기 전에 삭제 중으로 표시합니다. 조회 이후 다시 참조되었거나, 새로 등록되었거나, 다른 인스턴스가 먼저 표시한 객체는 표시하지 않습니다.
+    @Modifying
+    @Transactional
+    @Query("UPDATE PhotoObject p SET p.deletingAt = :now " +
+            "WHERE p.objectKey = :objectKey AND p.refCount <= 0 AND p.updatedAt < :cutoff AND p.deletingAt IS NULL")
+    int markDeleting(@Param("objectKey") String objectKey, @Param("cutoff") LocalDateTime cutoff, @Param("now") LocalDateTime now);
+
+    // 스토리지 객체를 지운 뒤 표시해 둔 행을 지웁니다. 그 사이 참조된 행은 남깁니다.
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM PhotoObject p WHERE p.objectKey = :objectKey AND p.deletingAt IS NOT NULL AND p.refCount <= 0")
+    int deleteMarked(@Param("objectKey") String objectKey);
+
+    // 정리 작업이 지우는 중인 객체인지 확인합니다. (등록 직후 확인하므로 이후에 새로 표시될 일은 없습니다)
+    boolean existsByObjectKeyAndDeletingAtIsNotNull(String objectKey);
+}
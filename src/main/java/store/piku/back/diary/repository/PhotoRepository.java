@@ -1,8 +1,15 @@
 package store.piku.back.diary.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import store.piku.back.diary.dto.FeedPhoto;
+import store.piku.back.diary.dto.PhotoKey;
 import store.piku.back.diary.entity.Photo;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,4 +17,17 @@ public interface PhotoRepository extends JpaRepository<Photo, Integer> {
 
     List<Photo> findByDiaryId(Long diaryId);
     Optional<Photo> findFirstByDiaryIdAndRepresentIsTrue(Long diaryId);
+    Optional<Photo> findFirstByUrlAndVariantsNot(String url, int variants);
+
+    @Query("SELECT new store.piku.back.diary.dto.FeedPhoto(p.diary.id, p.id, p.url, p.represent, p.variants) FROM Photo p " +
+            "WHERE p.diary.id IN :diaryIds ORDER BY p.id")
+    List<FeedPhoto> findFeedPhotosByDiaryIdIn(@Param("diaryIds") Collection<Long> diaryIds);
+
+    @Query("SELECT new store.piku.back.diary.dto.PhotoKey(p.url, p.variants) FROM Photo p WHERE p.id = :photoId")
+    Optional<PhotoKey> findKeyById(@Param("photoId") int photoId);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Photo p SET p.variants = :variants WHERE p.id = :photoId")
+    int updateVariants(@Param("photoId") int photoId, @Param("variants") int variants);
 }
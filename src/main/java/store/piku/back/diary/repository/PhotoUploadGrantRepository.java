@@ -0,0 +1,34 @@
+package store.piku.back.diary.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import store.piku.back.diary.entity.PhotoUploadGrant;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface PhotoUploadGrantRepository extends JpaRepository<PhotoUploadGrant, String> {
+
+    @Query("SELECT g.objectKey FROM PhotoUploadGrant g WHERE g.userId = :userId AND g.objectKey IN :objectKeys")
+    List<String> findObjectKeysByUserIdAndObjectKeyIn(@Param("userId") String userId,
+                                                      @Param("objectKeys") Collection<String> objectKeys);
+
+    // 사진 행 저장과 같은 트랜잭션에서 호출합니다. 동시에 같은 키를 사용하면 한 쪽만 행을 지웁니다.
+    @Modifying
+    @Query("DELETE FROM PhotoUploadGrant g WHERE g.userId = :userId AND g.objectKey IN :objectKeys")
+    int deleteByUserIdAndObjectKeyIn(@Param("userId") String userId, @Param("objectKeys") Collection<String> objectKeys);
+
+    @Query("SELECT g.objectKey FROM PhotoUploadGrant g WHERE g.issuedAt < :cutoff ORDER BY g.issuedAt")
+    List<String> findIssuedBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    // 조회 이후 사용된 키는 지우지 않습니다.
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM PhotoUploadGrant g WHERE g.objectKey = :objectKey AND g.issuedAt < :cutoff")
+    int deleteIfIssuedBefore(@Param("objectKey") String objectKey, @Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,71 @@
+package store.piku.back.diary.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import store.piku.back.diary.dto.SeenDiaries;
+import store.piku.back.diary.dto.TimelineEntry;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 기본 피드 정렬
+ * 일기 점수(작성 시각 + 댓글 활동, FeedScoreService)에 사용자별 요소(친구 가산점, 읽은 피드 감점)와
+ * seed 로 정해지는 작은 무작위 값을 더해 내림차순으로 정렬합니다.
+ * 3일이 지난 읽은 피드는 제외합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DefaultFeedRanker implements FeedRanker {
+
+    private final FeedScoreService feedScoreService;
+    private final FeedProperties feedProperties;
+
+    @Override
+    public List<Long> rank(String userId, List<TimelineEntry> friendEntries, List<TimelineEntry> publicEntries,
+                           SeenDiaries seenDiaries, long seed) {
+        List<TimelineEntry> candidates = new ArrayList<>(friendEntries.size() + publicEntries.size());
+        candidates.addAll(friendEntries);
+        candidates.addAll(publicEntries);
+        Map<Long, Double> scores = feedScoreService.getScores(candidates);
+
+        long threeDaysAgo = TimelineEntry.toEpochMilli(LocalDateTime.now().minusDays(3));
+        List<ScoredDiary> scored = new ArrayList<>(candidates.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            TimelineEntry entry = candidates.get(i);
+            boolean seen = seenDiaries.contains(entry.diaryId());
+            if (seen && entry.createdAt() <= threeDaysAgo) {
+                continue;
+            }
+            double score = scores.get(entry.diaryId()) + jitter(seed, entry.diaryId());
+            if (i < friendEntries.size()) {
+                score += feedProperties.getRankFriendWeight();
+            }
+            if (seen) {
+                score -= feedProperties.getRankSeenPenalty();
+            }
+            scored.add(new ScoredDiary(entry.diaryId(), score));
+        }
+
+        scored.sort(Comparator.comparingDouble(ScoredDiary::score).reversed()
+                .thenComparing(ScoredDiary::diaryId, Comparator.reverseOrder()));
+        return scored.stream().map(ScoredDiary::diaryId).toList();
+    }
+
+    /**
+     * seed 와 일기 ID 로 [0, rankJitter) 범위의 고정된 값을 만듭니다. (SplitMix64)
+     */
+    private double jitter(long seed, long diaryId) {
+        long z = seed + diaryId * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        z = z ^ (z >>> 31);
+        return (z >>> 11) * 0x1.0p-53 * feedProperties.getRankJitter();
+    }
+
+    private record ScoredDiary(Long diaryId, double score) {
+    }
+}
@@ -0,0 +1,219 @@
+package store.piku.back.diary.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import store.piku.back.diary.dto.FeedPhoto;
+import store.piku.back.diary.entity.Diary;
+import store.piku.back.diary.exception.DiaryExportBusyException;
+import store.piku.back.diary.repository.DiaryRepository;
+import store.piku.back.diary.repository.PhotoRepository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 사용자의 모든 일기와 사진을 ZIP 으로 응답에 바로 써서 내보냅니다.
+ * 일기는 한 달씩 나눠 읽고 사진은 스토리지에서 받아 그대로 ZIP 항목에 옮기므로, 내보내기 하나가 쓰는 메모리는 일정합니다.
+ * 동시에 진행되는 내보내기 수를 제한해 몰려도 일반 요청이 밀리지 않게 합니다.
+ * 사진을 먼저 쓰고 manifest.json 을 마지막에 써서, 스토리지에 없어 빠진 사진은 목록에 넣지 않고 missingPhotos 로 개수만 알립니다.
+ * 응답을 쓰기 시작한 뒤 실패하면 상태 코드를 바꿀 수 없으므로 ERROR.txt 항목을 넣어 ZIP 을 닫아, 내려받은 파일이 불완전함을 알 수 있게 합니다.
+ *
+ * <pre>
+ * photos/2025-06-01/0.jpg       일기 사진 (대표 사진이 0)
+ * manifest.json                 일기 목록 (날짜, 공개범위, 내용, 사진 경로, 빠진 사진 수)
+ * ERROR.txt                     중간에 실패한 경우에만
+ * </pre>
+ */
+@Slf4j
+@Service
+public class DiaryExportService {
+
+    private final DiaryRepository diaryRepository;
+    private final PhotoRepository photoRepository;
+    private final PhotoStorageService photoStorageService;
+    private final ObjectMapper objectMapper;
+    private final Semaphore permits;
+
+    private static final String ERROR_ENTRY = "ERROR.txt";
+    private static final String ERROR_MESSAGE = "일기 내보내기가 중간에 실패해 일부 일기나 사진이 빠졌을 수 있습니다. 다시 시도해 주세요.\n";
+
+    public DiaryExportService(DiaryRepository diaryRepository, PhotoRepository photoRepository,
+                              PhotoStorageService photoStorageService, ObjectMapper objectMapper,
+                              StorageProperties storageProperties) {
+        this.diaryRepository = diaryRepository;
+        this.photoRepository = photoRepository;
+        this.photoStorageService = photoStorageService;
+        this.objectMapper = objectMapper;
+        this.permits = new Semaphore(storageProperties.getExportConcurrency());
+    }
+
+    /**
+     * 응답 스트림을 열어 ZIP 을 씁니다. 응답 헤더 설정은 target 에서 처리합니다.
+     */
+    @FunctionalInterface
+    public interface ExportTarget {
+        OutputStream open() throws IOException;
+    }
+
+    /**
+     * 사용자의 일기를 ZIP 으로 내보냅니다.
+     *
+     * @param userId 내보낼 사용자 ID
+     * @param target 허가를 얻은 뒤에 열 응답 스트림
+     * @throws DiaryExportBusyException 동시에 진행 중인 내보내기가 많은 경우 (스트림을 열기 전에 던집니다)
+     */
+    public void export(String userId, ExportTarget target) throws IOException {
+        if (!permits.tryAcquire()) {
+            log.warn("사용자 [{}] - 진행 중인 내보내기가 많아 거절", userId);
+            throw new DiaryExportBusyException();
+        }
+        try {
+            LocalDate firstDate = diaryRepository.findFirstDateByUserId(userId);
+            YearMonth from = firstDate != null ? YearMonth.from(firstDate) : YearMonth.now();
+            YearMonth to = YearMonth.now();
+            log.info("사용자 [{}] - 일기 내보내기 시작 ({} ~ {})", userId, from, to);
+
+            ZipOutputStream zip = new ZipOutputStream(target.open());
+            try {
+                Set<String> photos = writePhotos(zip, userId, from, to);
+                writeManifest(zip, userId, from, to, photos);
+                zip.finish();
+                zip.flush();
+                log.info("사용자 [{}] - 일기 내보내기 완료. 사진 {}장", userId, photos.size());
+            } catch (IOException | RuntimeException e) {
+                log.error("사용자 [{}] - 일기 내보내기 중 실패: {}", userId, e.getMessage(), e);
+                writeError(zip, userId);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    // 이미 응답을 쓰기 시작했으므로 오류 항목을 넣고 ZIP 을 닫습니다. 클라이언트 연결이 끊긴 경우에는 쓸 수 없으므로 무시합니다.
+    private void writeError(ZipOutputStream zip, String userId) {
+        try {
+            zip.setLevel(Deflater.DEFAULT_COMPRESSION);
+            zip.putNextEntry(new ZipEntry(ERROR_ENTRY));
+            zip.write(ERROR_MESSAGE.getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+            zip.finish();
+            zip.flush();
+        } catch (IOException e) {
+            log.warn("사용자 [{}] - 일기 내보내기 오류 항목 쓰기 실패: {}", userId, e.getMessage());
+        }
+    }
+
+    private void writeManifest(ZipOutputStream zip, String userId, YearMonth from, YearMonth to, Set<String> photos) throws IOException {
+        zip.setLevel(Deflater.DEFAULT_COMPRESSION);
+        zip.putNextEntry(new ZipEntry("manifest.json"));
+
+        JsonGenerator json = objectMapper.getFactory().createGenerator(zip);
+        json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        json.writeStartObject();
+        json.writeStringField("userId", userId);
+        json.writeStringField("exportedAt", LocalDate.now().toString());
+        json.writeArrayFieldStart("diaries");
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            List<Diary> diaries = diaryRepository.findByUserIdAndDateBetween(userId, month.atDay(1), month.atEndOfMonth());
+            Map<Long, List<String>> photoKeys = loadPhotoKeys(diaries);
+            for (Diary diary : diaries) {
+                json.writeStartObject();
+                json.writeStringField("date", diary.getDate().toString());
+                json.writeStringField("status", diary.getStatus().name());
+                json.writeStringField("content", diary.getContent());
+                json.writeStringField("createdAt", diary.getCreatedAt() != null ? diary.getCreatedAt().toString() : null);
+                json.writeArrayFieldStart("photos");
+                List<String> keys = photoKeys.getOrDefault(diary.getId(), List.of());
+                int missing = 0;
+                for (int i = 0; i < keys.size(); i++) {
+                    String entryName = entryName(diary, i, keys.get(i));
+                    if (photos.contains(entryName)) {
+                        json.writeString(entryName);
+                    } else {
+                        missing++;
+                    }
+                }
+                json.writeEndArray();
+                if (missing > 0) {
+                    json.writeNumberField("missingPhotos", missing);
+                }
+                json.writeEndObject();
+            }
+            json.flush();
+        }
+        json.writeEndArray();
+        json.writeEndObject();
+        json.close();
+        zip.closeEntry();
+    }
+
+    // ZIP 에 쓴 사진 항목 이름을 반환합니다.
+    private Set<String> writePhotos(ZipOutputStream zip, String userId, YearMonth from, YearMonth to) throws IOException {
+        // 사진은 이미 압축된 형식이므로 다시 압축하지 않습니다.
+        zip.setLevel(Deflater.NO_COMPRESSION);
+        Set<String> written = new HashSet<>();
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            List<Diary> diaries = diaryRepository.findByUserIdAndDateBetween(userId, month.atDay(1), month.atEndOfMonth());
+            Map<Long, List<String>> photoKeys = loadPhotoKeys(diaries);
+            for (Diary diary : diaries) {
+                List<String> keys = photoKeys.getOrDefault(diary.getId(), List.of());
+                for (int i = 0; i < keys.size(); i++) {
+                    try (InputStream in = photoStorageService.openObject(keys.get(i))) {
+                        if (in == null) {
+                            log.warn("사용자 [{}] - 내보낼 사진이 스토리지에 없습니다: {}", userId, keys.get(i));
+                            continue;
+                        }
+                        String entryName = entryName(diary, i, keys.get(i));
+                        zip.putNextEntry(new ZipEntry(entryName));
+                        in.transferTo(zip);
+                        zip.closeEntry();
+                        written.add(entryName);
+                    }
+                }
+            }
+        }
+        return written;
+    }
+
+    // 대표 사진을 맨 앞에 둔 일기별 원본 객체 키
+    private Map<Long, List<String>> loadPhotoKeys(List<Diary> diaries) {
+        Map<Long, List<String>> keys = new HashMap<>();
+        if (diaries.isEmpty()) {
+            return keys;
+        }
+        List<FeedPhoto> photos = photoRepository.findFeedPhotosByDiaryIdIn(diaries.stream().map(Diary::getId).toList());
+        for (FeedPhoto photo : photos) {
+            List<String> diaryKeys = keys.computeIfAbsent(photo.diaryId(), id -> new ArrayList<>());
+            if (Boolean.TRUE.equals(photo.represent())) {
+                diaryKeys.add(0, photo.url());
+            } else {
+                diaryKeys.add(photo.url());
+            }
+        }
+        return keys;
+    }
+
+    private String entryName(Diary diary, int index, String objectKey) {
+        int slash = objectKey.lastIndexOf('/');
+        int dot = objectKey.lastIndexOf('.');
+        String extension = dot > slash ? objectKey.substring(dot).toLowerCase(Locale.ROOT) : "";
+        return "photos/" + diary.getDate() + "/" + index + extension;
+    }
+}
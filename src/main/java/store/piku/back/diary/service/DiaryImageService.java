@@ -0,0 +1,89 @@
+package store.piku.back.diary.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import store.piku.back.diary.dto.PhotoKey;
+import store.piku.back.diary.enums.PhotoVariant;
+import store.piku.back.diary.repository.PhotoRepository;
+
+import java.time.Duration;
+
+/**
+ * 이미지 게이트웨이(/api/images/{photoId}/{variant})의 서명 확인과 서명 URL 조회를 담당합니다.
+ * 조회 권한은 응답을 만들 때 확인하고 URL 서명(PhotoUrlSigner)에 담으므로, 여기서는 권한 확인용 DB 조회를 하지 않습니다.
+ * 사진 ID 별 객체 키는 짧게 캐시하고, 서명된 스토리지 URL 은 PhotoUrlCache 에서 꺼내 줍니다.
+ */
+@Service
+@Slf4j
+public class DiaryImageService {
+
+    private final PhotoRepository photoRepository;
+    private final PhotoStorageService photoStorageService;
+    private final PhotoUrlCache photoUrlCache;
+    private final PhotoUrlSigner photoUrlSigner;
+    private final StorageProperties storageProperties;
+    private final Cache<Integer, PhotoKey> photoKeys;
+
+    public DiaryImageService(PhotoRepository photoRepository, PhotoStorageService photoStorageService,
+                             PhotoUrlCache photoUrlCache, PhotoUrlSigner photoUrlSigner,
+                             StorageProperties storageProperties, MeterRegistry meterRegistry) {
+        this.photoRepository = photoRepository;
+        this.photoStorageService = photoStorageService;
+        this.photoUrlCache = photoUrlCache;
+        this.photoUrlSigner = photoUrlSigner;
+        this.storageProperties = storageProperties;
+        this.photoKeys = Caffeine.newBuilder()
+                .maximumSize(storageProperties.getUrlCacheMaxSize())
+                .expireAfterWrite(storageProperties.getGatewayKeyCacheTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, photoKeys, "photo.key.cache");
+    }
+
+    /**
+     * URL 서명을 확인한 뒤 요청한 크기에 맞는 사진의 미리 서명된 URL을 반환합니다.
+     * 변형 이미지가 아직 없으면 원본 URL을 반환합니다.
+     *
+     * @param photoId 사진 ID
+     * @param variant 화면에 필요한 크기
+     * @param expiresAt URL 만료 시각 (epoch 초)
+     * @param signature URL 서명
+     * @return 미리 서명된 스토리지 URL
+     * @throws AccessDeniedException 서명이 없거나 맞지 않거나 만료된 경우
+     * @throws EntityNotFoundException 사진이 없는 경우
+     */
+    public String getPhotoUrl(int photoId, PhotoVariant variant, Long expiresAt, String signature) {
+        if (expiresAt == null || !photoUrlSigner.verify(variant.pathFor(photoId), expiresAt, signature)) {
+            log.warn("사진 URL 서명 확인 실패 - 사진: {}, 크기: {}", photoId, variant.getSuffix());
+            throw new AccessDeniedException("유효하지 않거나 만료된 사진 URL입니다.");
+        }
+
+        PhotoKey photoKey = photoKeys.get(photoId, id -> photoRepository.findKeyById(id).orElse(null));
+        if (photoKey == null) {
+            throw new EntityNotFoundException("사진을 찾을 수 없습니다: " + photoId);
+        }
+
+        String url = photoStorageService.getPhotoUrl(photoKey.variantKey(variant));
+        if (url == null) {
+            throw new IllegalStateException("사진 URL 생성 실패: " + photoId);
+        }
+        return url;
+    }
+
+    /**
+     * 리다이렉트 응답을 캐시해도 되는 시간.
+     * 캐시에서 꺼낸 서명 URL은 최대 캐시 보관 시간만큼 지났을 수 있으므로 남은 유효 시간의 최솟값까지,
+     * 그리고 게이트웨이 URL 자체의 만료 시각까지만 허용합니다.
+     */
+    public Duration redirectMaxAge(long expiresAt) {
+        Duration storageUrlAge = storageProperties.getPresignExpiry().minus(photoUrlCache.getTtl());
+        Duration gatewayUrlAge = photoUrlSigner.remaining(expiresAt);
+        return storageUrlAge.compareTo(gatewayUrlAge) < 0 ? storageUrlAge : gatewayUrlAge;
+    }
+}
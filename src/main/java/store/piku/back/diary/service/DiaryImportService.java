@@ -0,0 +1,276 @@
+package store.piku.back.diary.service;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import store.piku.back.counter.entity.CounterType;
+import store.piku.back.counter.service.CounterService;
+import store.piku.back.diary.dto.DiaryImportItemDTO;
+import store.piku.back.diary.dto.DiaryImportRequestDTO;
+import store.piku.back.diary.dto.DiaryImportResultDTO;
+import store.piku.back.diary.dto.DiaryImportSummaryDTO;
+import store.piku.back.diary.enums.DiaryImportResult;
+import store.piku.back.diary.repository.DiaryRepository;
+import store.piku.back.user.service.reader.UserReader;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 다른 앱에서 옮겨 오는 일기를 한 번에 가져옵니다.
+ * 중복 날짜와 사진은 목록 단위로 한 번에 확인하고, 일기와 사진 행은 묶음마다 JDBC 배치로 저장합니다.
+ * 사진은 업로드 URL(POST /api/diary/photos/upload-urls)로 미리 올린 객체 키로 전달받습니다.
+ * 가져온 일기는 작성 시각을 일기 날짜로 두며, 피드 타임라인 반영과 친구 알림은 하지 않습니다.
+ * 요청 스레드에서 끝까지 처리하므로 한 요청의 일기 수를 제한하며, 더 많은 일기는 클라이언트가 나눠 보냅니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DiaryImportService {
+
+    // 사진 10장씩이어도 사진 확인(최대 1000건)과 저장이 요청 시간 안에 끝나는 크기
+    private static final int MAX_IMPORT_ITEMS = 100;
+    private static final int INSERT_CHUNK_SIZE = 50;
+
+    private static final String INSERT_DIARY =
+            "INSERT INTO diary (content, status, date, user_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_PHOTO =
+            "INSERT INTO photos (url, represent, photo_order, diary_id, variants) VALUES (?, ?, ?, ?, 0)";
+
+    private final DiaryRepository diaryRepository;
+    private final UserReader userReader;
+    private final PhotoStorageService photoStorage;
+    private final PhotoVariantService photoVariantService;
+    private final CounterService counterService;
+    private final DiaryMonthCountService diaryMonthCountService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+
+    /**
+     * 스트리밍을 시작하기 전에 요청 전체를 확인합니다.
+     *
+     * @throws IllegalArgumentException 가져올 일기가 없거나 너무 많은 경우
+     */
+    public void checkRequest(DiaryImportRequestDTO request) {
+        if (request == null || request.getDiaries() == null || request.getDiaries().isEmpty()) {
+            throw new IllegalArgumentException("가져올 일기가 없습니다.");
+        }
+        if (request.getDiaries().size() > MAX_IMPORT_ITEMS) {
+            throw new IllegalArgumentException("한 번에 가져올 수 있는 일기는 최대 " + MAX_IMPORT_ITEMS + "개입니다.");
+        }
+    }
+
+    /**
+     * 일기를 가져옵니다. 항목별 결과는 처리되는 대로 progress 로 전달되며, 요청 순서와 다를 수 있습니다.
+     *
+     * @param userId 가져오는 사용자 ID
+     * @param items 가져올 일기 목록
+     * @param progress 항목별 결과를 받을 콜백
+     * @return 결과 요약
+     */
+    public DiaryImportSummaryDTO importDiaries(String userId, List<DiaryImportItemDTO> items, Consumer<DiaryImportResultDTO> progress) {
+        userReader.getUserById(userId);
+        log.info("사용자 [{}] - 일기 {}건 가져오기 시작", userId, items.size());
+        DiaryImportSummaryDTO summary = new DiaryImportSummaryDTO(items.size(), 0, 0, 0, 0);
+        Consumer<DiaryImportResultDTO> report = result -> {
+            switch (result.getResult()) {
+                case CREATED -> summary.setCreated(summary.getCreated() + 1);
+                case DUPLICATE -> summary.setDuplicated(summary.getDuplicated() + 1);
+                case INVALID -> summary.setInvalid(summary.getInvalid() + 1);
+                case FAILED -> summary.setFailed(summary.getFailed() + 1);
+            }
+            progress.accept(result);
+        };
+
+        // 1. 항목별 입력값 확인 (DB 조회 없음)
+        List<Integer> candidates = new ArrayList<>();
+        Set<LocalDate> requestedDates = new HashSet<>();
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < items.size(); i++) {
+            DiaryImportItemDTO item = items.get(i);
+            String error = validateItem(item, today);
+            if (error == null && !requestedDates.add(item.getDate())) {
+                error = "같은 날짜의 일기가 요청에 중복되었습니다: " + item.getDate();
+            }
+            if (error != null) {
+                report.accept(result(i, item, DiaryImportResult.INVALID, null, error));
+            } else {
+                candidates.add(i);
+            }
+        }
+
+        // 2. 이미 일기가 있는 날짜를 한 번에 조회
+        if (!candidates.isEmpty()) {
+            Set<LocalDate> existingDates = new HashSet<>(diaryRepository.findDatesByUserIdAndDateIn(
+                    userId, candidates.stream().map(i -> items.get(i).getDate()).toList()));
+            candidates.removeIf(i -> {
+                if (!existingDates.contains(items.get(i).getDate())) {
+                    return false;
+                }
+                report.accept(result(i, items.get(i), DiaryImportResult.DUPLICATE, null, "이미 해당 날짜에 일기가 존재합니다."));
+                return true;
+            });
+        }
+
+        // 3. 사진을 한 번에 병렬 확인
+        Set<String> photoKeys = new LinkedHashSet<>();
+        candidates.forEach(i -> photoKeys.addAll(photoKeysOf(items.get(i))));
+        Map<String, String> photoErrors = photoStorage.checkUploadedPhotos(photoKeys, userId);
+        candidates.removeIf(i -> {
+            String error = photoKeysOf(items.get(i)).stream()
+                    .map(photoErrors::get)
+                    .filter(Objects::nonNull)
+                    .findFirst()
+                    .orElse(null);
+            if (error == null) {
+                return false;
+            }
+            report.accept(result(i, items.get(i), DiaryImportResult.INVALID, null, error));
+            return true;
+        });
+
+        // 4. 묶음마다 한 트랜잭션으로 배치 저장
+        for (int from = 0; from < candidates.size(); from += INSERT_CHUNK_SIZE) {
+            List<Integer> chunk = candidates.subList(from, Math.min(from + INSERT_CHUNK_SIZE, candidates.size()));
+            List<DiaryImportItemDTO> chunkItems = chunk.stream().map(items::get).toList();
+            try {
+                saveChunk(userId, chunk, chunkItems, report);
+            } catch (DataIntegrityViolationException e) {
+                // 2번 확인 이후 같은 날짜의 일기가 다른 요청으로 저장됨 (uk_diary_user_id_date). 묶음 전체가 롤백되었으므로 한 건씩 다시 저장합니다.
+                log.warn("사용자 [{}] - 일기 가져오기 묶음 저장 중 중복 날짜 발견, 한 건씩 다시 저장합니다: {}", userId, e.getMessage());
+                for (int j = 0; j < chunk.size(); j++) {
+                    saveOne(userId, chunk.get(j), chunkItems.get(j), report);
+                }
+            } catch (RuntimeException e) {
+                log.error("사용자 [{}] - 일기 가져오기 묶음 저장 실패: {}", userId, e.getMessage(), e);
+                for (int j = 0; j < chunk.size(); j++) {
+                    report.accept(result(chunk.get(j), chunkItems.get(j), DiaryImportResult.FAILED, null, "저장 중 오류가 발생했습니다."));
+                }
+            }
+        }
+
+        log.info("사용자 [{}] - 일기 가져오기 완료. 생성: {}, 중복: {}, 입력 오류: {}, 실패: {}", userId,
+                summary.getCreated(), summary.getDuplicated(), summary.getInvalid(), summary.getFailed());
+        return summary;
+    }
+
+    private void saveChunk(String userId, List<Integer> chunk, List<DiaryImportItemDTO> chunkItems,
+                           Consumer<DiaryImportResultDTO> report) {
+        List<Long> diaryIds = transactionTemplate.execute(status -> insertChunk(userId, chunkItems));
+        for (int j = 0; j < chunk.size(); j++) {
+            DiaryImportItemDTO item = chunkItems.get(j);
+            report.accept(result(chunk.get(j), item, DiaryImportResult.CREATED, diaryIds.get(j), null));
+            if (!photoKeysOf(item).isEmpty()) {
+                photoVariantService.generateAsync(diaryIds.get(j));
+            }
+        }
+    }
+
+    private void saveOne(String userId, int index, DiaryImportItemDTO item, Consumer<DiaryImportResultDTO> report) {
+        try {
+            saveChunk(userId, List.of(index), List.of(item), report);
+        } catch (DuplicateKeyException e) {
+            report.accept(result(index, item, DiaryImportResult.DUPLICATE, null, "이미 해당 날짜에 일기가 존재합니다."));
+        } catch (RuntimeException e) {
+            log.error("사용자 [{}] - 일기 가져오기 저장 실패 ({}): {}", userId, item.getDate(), e.getMessage(), e);
+            report.accept(result(index, item, DiaryImportResult.FAILED, null, "저장 중 오류가 발생했습니다."));
+        }
+    }
+
+    private String validateItem(DiaryImportItemDTO item, LocalDate today) {
+        if (item == null) {
+            return "일기 정보가 비어 있습니다.";
+        }
+        Set<ConstraintViolation<DiaryImportItemDTO>> violations = validator.validate(item);
+        if (!violations.isEmpty()) {
+            return violations.iterator().next().getMessage();
+        }
+        if (item.getDate().isAfter(today)) {
+            return "미래 날짜에 일기를 작성할 수 없습니다: " + item.getDate();
+        }
+        if (photoKeysOf(item).stream().anyMatch(key -> key == null || key.isBlank())) {
+            return "비어 있는 사진 객체 키가 있습니다.";
+        }
+        return null;
+    }
+
+    private List<Long> insertChunk(String userId, List<DiaryImportItemDTO> chunkItems) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Long> diaryIds = jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_DIARY, Statement.RETURN_GENERATED_KEYS)) {
+                for (DiaryImportItemDTO item : chunkItems) {
+                    statement.setString(1, item.getContent());
+                    statement.setString(2, item.getStatus().name());
+                    statement.setObject(3, item.getDate());
+                    statement.setString(4, userId);
+                    // 작성 시각을 일기 날짜로 두어 가져온 일기가 피드의 최신 글로 올라오지 않게 합니다.
+                    statement.setTimestamp(5, Timestamp.valueOf(item.getDate().atStartOfDay()));
+                    statement.setTimestamp(6, now);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+
+                List<Long> generated = new ArrayList<>(chunkItems.size());
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        generated.add(keys.getLong(1));
+                    }
+                }
+                return generated;
+            }
+        });
+        if (diaryIds == null || diaryIds.size() != chunkItems.size()) {
+            throw new IllegalStateException("생성된 일기 ID 수가 저장한 일기 수와 다릅니다.");
+        }
+
+        List<Object[]> photoRows = new ArrayList<>();
+        List<String> photoKeys = new ArrayList<>();
+        for (int i = 0; i < chunkItems.size(); i++) {
+            List<String> keys = photoKeysOf(chunkItems.get(i));
+            for (int order = 0; order < keys.size(); order++) {
+                photoRows.add(new Object[]{keys.get(order), order == 0, order, diaryIds.get(i)});
+            }
+            photoKeys.addAll(keys);
+        }
+        if (!photoRows.isEmpty()) {
+            photoStorage.consumeUploadGrants(photoKeys, userId);
+            jdbcTemplate.batchUpdate(INSERT_PHOTO, photoRows);
+        }
+
+        counterService.increment(CounterType.USER_DIARIES, userId, chunkItems.size());
+        Map<YearMonth, Long> perMonth = chunkItems.stream()
+                .collect(Collectors.groupingBy(item -> YearMonth.from(item.getDate()), Collectors.counting()));
+        perMonth.forEach((month, count) -> diaryMonthCountService.increment(userId, month.atDay(1), count));
+        return diaryIds;
+    }
+
+    private List<String> photoKeysOf(DiaryImportItemDTO item) {
+        return item.getPhotoKeys() == null ? List.of() : item.getPhotoKeys();
+    }
+
+    private DiaryImportResultDTO result(int index, DiaryImportItemDTO item, DiaryImportResult result, Long diaryId, String message) {
+        return new DiaryImportResultDTO(index, item != null ? item.getDate() : null, result, diaryId, message);
+    }
+}
@@ -0,0 +1,77 @@
+package store.piku.back.diary.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import store.piku.back.diary.dto.DiaryMonthCountDTO;
+import store.piku.back.diary.entity.DiaryMonthCount;
+import store.piku.back.diary.key.DiaryMonthCountID;
+import store.piku.back.diary.repository.DiaryMonthCountRepository;
+import store.piku.back.diary.repository.DiaryRepository;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 프로필의 월별 일기 수를 diary_month_count 집계 테이블에서 기본 키 범위로 읽습니다.
+ * 일기 작성/삭제 트랜잭션 안에서 증감하며, 사용자의 집계가 아직 없으면 원본에서 한 번 세어 만들고
+ * 집계가 있는 사용자의 새 달은 그 달만 원본에서 세어 만듭니다.
+ * 조회는 읽기 전용 트랜잭션에서도 호출되므로 집계를 만들지 않고 원본 집계로 대신 응답합니다.
+ * 집계 생성과 어긋난 값 보정은 CounterReconciliationJob 이 함께 처리합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DiaryMonthCountService {
+
+    private final DiaryMonthCountRepository diaryMonthCountRepository;
+    private final DiaryRepository diaryRepository;
+
+    /**
+     * 일기 날짜가 속한 달의 일기 수를 delta 만큼 증감합니다. 일기 저장/삭제 후 같은 트랜잭션에서 호출해야 합니다.
+     */
+    @Transactional
+    public void increment(String userId, LocalDate date, long delta) {
+        YearMonth month = YearMonth.from(date);
+        int updated = diaryMonthCountRepository.addDelta(userId, monthKey(month), delta);
+        if (updated == 0) {
+            // 해당 달 행이 없으면 원본에서 셉니다. (방금 반영된 변경이 포함되므로 delta 는 더하지 않습니다)
+            if (diaryMonthCountRepository.existsById(new DiaryMonthCountID(userId, DiaryMonthCount.SEEDED_MARKER))) {
+                diaryMonthCountRepository.seedMonth(userId, monthKey(month), month.atDay(1), month.atEndOfMonth());
+            } else {
+                diaryMonthCountRepository.seedUser(userId);
+            }
+        }
+    }
+
+    /**
+     * from 부터 to 까지 일기가 있는 달의 일기 수를 최신 달부터 반환합니다.
+     */
+    @Transactional(readOnly = true)
+    public List<DiaryMonthCountDTO> getMonthlyCounts(String userId, YearMonth from, YearMonth to) {
+        List<DiaryMonthCount> rows = diaryMonthCountRepository.findWithMarker(userId, monthKey(from), monthKey(to));
+        boolean seeded = rows.stream().anyMatch(row -> row.getMonthKey() == DiaryMonthCount.SEEDED_MARKER);
+        if (!seeded) {
+            log.debug("사용자 {} 월별 일기 수 집계 없음, 원본에서 조회", userId);
+            return diaryRepository.countDiariesPerMonth(userId, from.atDay(1), to.atEndOfMonth());
+        }
+
+        List<DiaryMonthCountDTO> counts = new ArrayList<>(rows.size());
+        for (DiaryMonthCount row : rows) {
+            if (row.getMonthKey() != DiaryMonthCount.SEEDED_MARKER && row.getValue() > 0) {
+                Integer year = row.getMonthKey() / 100;
+                Integer month = row.getMonthKey() % 100;
+                Long count = row.getValue();
+                counts.add(new DiaryMonthCountDTO(year, month, count));
+            }
+        }
+        return counts;
+    }
+
+    private int monthKey(YearMonth yearMonth) {
+        return yearMonth.getYear() * 100 + yearMonth.getMonthValue();
+    }
+}
@@ -2,20 +2,25 @@ package store.piku.back.diary.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 import store.piku.back.ai.entity.DiaryImageGeneration;
 import store.piku.back.ai.repository.DiaryImageGenerationRepository;
 import store.piku.back.ai.service.DiaryImageGenerationService;
 import store.piku.back.comment.service.CommentService;
+import store.piku.back.counter.entity.CounterType;
+import store.piku.back.counter.service.CounterService;
 import store.piku.back.diary.dto.*;
 import store.piku.back.diary.entity.Diary;
 import store.piku.back.diary.entity.Photo;
 import store.piku.back.diary.enums.DiaryPhotoType;
+import store.piku.back.diary.enums.PhotoVariant;
 import store.piku.back.diary.enums.Status;
 import store.piku.back.diary.exception.DiaryNotFoundException;
 import store.piku.back.diary.exception.DuplicateDiaryException;
@@ -36,10 +41,16 @@ import store.piku.back.user.service.reader.UserReader;
 import java.io.IOException;
 import java.time.LocalDate;
 import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 
 
@@ -48,6 +59,11 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class DiaryService {
 
+    private static final int MAX_CALENDAR_MONTHS = 12;
+    private static final int MAX_UPLOAD_URLS = 10;
+    // 프로필 월별 일기 수 조회 기간 (이번 달 포함 이전 N개월)
+    private static final int PROFILE_MONTHLY_COUNT_MONTHS = 6;
+
     private final DiaryRepository diaryRepository;
     private final PhotoRepository photoRepository;
     private final UserReader userReader;
@@ -57,6 +73,14 @@ public class DiaryService {
     private final DiaryImageGenerationRepository diaryImageGenerationRepository;
     private final DiaryImageGenerationService diaryImageGenerationService;
     private final NotificationService notificationService;
+    private final FeedTimelineService feedTimelineService;
+    private final FeedPageCache feedPageCache;
+    private final FeedScoreService feedScoreService;
+    private final CounterService counterService;
+    private final TransactionTemplate transactionTemplate;
+    private final PhotoVariantService photoVariantService;
+    private final DiaryMonthCountService diaryMonthCountService;
+    private final ImagePathToUrlConverter imagePathToUrlConverter;
 
 
     /**
@@ -74,35 +98,81 @@ public class DiaryService {
                 });
     }
 
-    @Transactional
+    /**
+     * 일기를 작성합니다.
+     * 사용자 사진은 트랜잭션 밖에서 먼저 비동기 업로드를 시작하고, 업로드가 진행되는 동안 사용자 조회와 직접 업로드 사진 확인을 합니다.
+     * 트랜잭션에서는 일기와 사진 행만 저장하며, 저장이 실패하면 업로드한 객체를 삭제합니다. 변형 이미지 생성, 피드 반영과 알림은 커밋 이후에 처리합니다.
+     */
     public ResponseDiaryDTO createDiary(DiaryDTO diaryDTO, List<MultipartFile> photos, String userId, RequestMetaInfo requestMetaInfo) throws UserNotFoundException, IOException {
 
         validateDiaryDTO(diaryDTO, photos, userId);
 
-        User user = userReader.getUserById(userId);
-
-        Diary diary = new Diary(diaryDTO.getContent(), diaryDTO.getStatus(),diaryDTO.getDate(), user);
-
-        diary = diaryRepository.save(diary);
-        log.debug("사용자 [{}] - 일기 저장 완료. 일기 ID: {}", userId, diary.getId());
-
         List<DiaryImageInfo> infos = diaryDTO.getImageInfos();
         infos.sort(Comparator.comparing(DiaryImageInfo::getOrder));
 
-        // imageInfos를 순회하면서 하나씩 저장
-        for(DiaryImageInfo info : infos) {
-            if (info.getType() == DiaryPhotoType.AI_IMAGE) {
-                saveAiPhoto(diary, info.getAiPhotoId(), userId, info.getOrder());
-            } else {
-                if (info.getPhotoIndex() != null && photos != null && info.getPhotoIndex() < photos.size()) {
-                    photoStorage.savePhoto(diary, photos.get(info.getPhotoIndex()), userId, info.getOrder());
+        List<DiaryImageInfo> userImageInfos = new ArrayList<>();
+        List<MultipartFile> userImages = new ArrayList<>();
+        for (DiaryImageInfo info : infos) {
+            if (info.getType() != DiaryPhotoType.AI_IMAGE
+                    && info.getPhotoIndex() != null && photos != null && info.getPhotoIndex() < photos.size()) {
+                userImageInfos.add(info);
+                userImages.add(photos.get(info.getPhotoIndex()));
+            }
+        }
+        CompletableFuture<List<String>> uploads = photoStorage.uploadPhotosAsync(userImages, userId, diaryDTO.getDate());
+
+        User user;
+        Map<DiaryImageInfo, String> uploaded = new IdentityHashMap<>();
+        List<String> directKeys = new ArrayList<>();
+        try {
+            user = userReader.getUserById(userId);
+
+            // 미리 서명된 URL로 직접 올린 사진은 HEAD 요청으로 확인만 합니다.
+            for (DiaryImageInfo info : infos) {
+                if (info.getType() != DiaryPhotoType.AI_IMAGE && info.getObjectKey() != null) {
+                    directKeys.add(info.getObjectKey());
+                    uploaded.put(info, info.getObjectKey());
                 }
             }
+            photoStorage.verifyUploadedPhotos(directKeys, userId);
+        } catch (RuntimeException e) {
+            // 진행 중인 업로드는 끝난 뒤에 지웁니다.
+            uploads.thenAccept(photoStorage::discardUploads);
+            throw e;
+        }
+
+        List<String> objectNames = awaitUploads(uploads);
+        log.debug("사용자 [{}] - 사진 업로드 완료. 개수: {}", userId, objectNames.size());
+
+        for (int i = 0; i < userImageInfos.size(); i++) {
+            uploaded.put(userImageInfos.get(i), objectNames.get(i));
+        }
+
+        Diary diary;
+        try {
+            diary = transactionTemplate.execute(status -> saveDiaryWithPhotos(diaryDTO, user, infos, uploaded, directKeys));
+        } catch (RuntimeException e) {
+            // 클라이언트가 직접 올린 사진은 같은 키로 다시 시도할 수 있도록 남겨 둡니다.
+            log.warn("사용자 [{}] - 일기 저장 실패, 업로드한 사진 삭제", userId);
+            photoStorage.discardUploads(objectNames);
+            throw e;
+        }
+
+        if (!infos.isEmpty()) {
+            photoVariantService.generateAsync(diary.getId());
+        }
+
+        List<String> friends = diary.getStatus() != Status.PRIVATE ? friendRequestService.getFriends(userId) : List.of();
+        feedTimelineService.push(diary, friends);
+        // 새 일기가 보이는 친구들과 작성자의 피드 캐시 무효화
+        if (diary.getStatus() != Status.PRIVATE) {
+            feedScoreService.onDiaryCreated(diary);
+            List<String> affectedUsers = new ArrayList<>(friends);
+            affectedUsers.add(userId);
+            feedPageCache.evictAll(affectedUsers);
         }
-        log.debug("사용자 [{}] - 사진 저장 완료. 일기 ID: {}", userId, diary.getId());
 
         if (diary.getStatus() == Status.FRIENDS) {
-            List<String> friends = friendRequestService.getFriends(userId);
             for (String friendId : friends) {
 
                 if (friendId.equals(userId)) continue;
@@ -124,6 +194,69 @@ public class DiaryService {
         );
     }
 
+    /**
+     * 일기 사진을 스토리지에 직접 올릴 수 있는 미리 서명된 PUT URL을 발급합니다.
+     * 클라이언트는 받은 URL로 사진을 올린 뒤, 일기 작성 시 imageInfos.objectKey 에 객체 키를 담아 보냅니다.
+     *
+     * @param request 일기 날짜와 업로드할 파일명 목록
+     * @param userId 작성자 ID
+     * @return 파일명 순서와 같은 객체 키와 업로드 URL 목록
+     * @throws IllegalArgumentException 파일명이 올바르지 않거나 개수가 너무 많은 경우
+     */
+    public List<PhotoUploadUrlResponseDTO> createPhotoUploadUrls(PhotoUploadUrlRequestDTO request, String userId) {
+        List<String> filenames = request.getFilenames();
+        if (filenames.size() > MAX_UPLOAD_URLS) {
+            throw new IllegalArgumentException("한 번에 발급할 수 있는 업로드 URL은 최대 " + MAX_UPLOAD_URLS + "개입니다.");
+        }
+        filenames.forEach(this::validateImageFilename);
+        return photoStorage.createUploadUrls(filenames, userId, request.getDate());
+    }
+
+    // 업로드 완료를 기다리고, 업로드 실패는 CompletionException 을 벗겨 원래 예외로 던집니다.
+    private List<String> awaitUploads(CompletableFuture<List<String>> uploads) {
+        try {
+            return uploads.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private Diary saveDiaryWithPhotos(DiaryDTO diaryDTO, User user, List<DiaryImageInfo> infos,
+                                      Map<DiaryImageInfo, String> uploaded, List<String> directKeys) {
+        String userId = user.getId();
+        // 직접 올린 사진의 발급 기록을 먼저 사용 처리해, 같은 키로 동시에 저장하는 요청 중 하나만 통과시킵니다.
+        photoStorage.consumeUploadGrants(directKeys, userId);
+        Diary diary;
+        try {
+            diary = diaryRepository.save(new Diary(diaryDTO.getContent(), diaryDTO.getStatus(), diaryDTO.getDate(), user));
+        } catch (DataIntegrityViolationException e) {
+            // 날짜 확인 이후 같은 날짜의 일기가 먼저 저장된 경우 (uk_diary_user_id_date)
+            log.info("일기 날짜 중복 저장 - 사용자: {}, 날짜: {}", userId, diaryDTO.getDate());
+            throw new DuplicateDiaryException("이미 해당 날짜에 일기가 존재합니다: " + diaryDTO.getDate());
+        }
+        counterService.increment(CounterType.USER_DIARIES, userId, 1);
+        diaryMonthCountService.increment(userId, diary.getDate(), 1);
+        log.debug("사용자 [{}] - 일기 저장 완료. 일기 ID: {}", userId, diary.getId());
+
+        for (DiaryImageInfo info : infos) {
+            if (info.getType() == DiaryPhotoType.AI_IMAGE) {
+                saveAiPhoto(diary, info.getAiPhotoId(), userId, info.getOrder());
+            } else if (uploaded.get(info) != null) {
+                Photo photo = new Photo(diary, uploaded.get(info), info.getOrder());
+                if (info.getOrder() == 0) {
+                    photo.updateRepresent(true);
+                }
+                photoRepository.save(photo);
+            }
+        }
+        photoStorage.acquireObjects(uploaded.values());
+        log.debug("사용자 [{}] - 사진 저장 완료. 일기 ID: {}", userId, diary.getId());
+        return diary;
+    }
+
     public void saveAiPhoto(Diary diary, Long aiPhoto, String userId, Integer order) {
         log.info("AI 사진 저장 시작 - 사용자: {}, 일기 날짜: {}", userId, diary.getDate());
 
@@ -242,10 +375,15 @@ public class DiaryService {
                 }
             }
             if (info.getType() == DiaryPhotoType.USER_IMAGE){
-                if (info.getPhotoIndex() == null){
+                if (info.getPhotoIndex() == null && info.getObjectKey() == null){
                     throw new IllegalArgumentException("유효하지 않은 사용자 사진 인덱스: null");
                 }
-                userImageCount++;
+                if (info.getPhotoIndex() != null && info.getObjectKey() != null){
+                    throw new IllegalArgumentException("사진 인덱스와 객체 키는 함께 보낼 수 없습니다.");
+                }
+                if (info.getPhotoIndex() != null) {
+                    userImageCount++;
+                }
             }
         }
         if (userImageCount != (photos == null ? 0 : photos.size())) {
@@ -258,27 +396,29 @@ public class DiaryService {
             return;
         }
         for (MultipartFile file : photos) {
-            String originalFilename = file.getOriginalFilename();
+            validateImageFilename(file.getOriginalFilename());
+        }
+    }
 
-            if (originalFilename == null || !originalFilename.contains(".")) {
-                throw new IllegalArgumentException("유효하지 않은 파일 이름입니다: " + originalFilename);
-            }
+    private void validateImageFilename(String originalFilename) {
+        if (originalFilename == null || !originalFilename.contains(".")) {
+            throw new IllegalArgumentException("유효하지 않은 파일 이름입니다: " + originalFilename);
+        }
 
-            String contentType = fileUtil.getContentType(originalFilename);
+        String contentType = fileUtil.getContentType(originalFilename);
 
-            // 허용할 이미지 타입 목록
-            List<String> allowedImageTypes = List.of(
-                    "image/jpeg",
-                    "image/png",
-                    "image/gif",
-                    "image/webp",
-                    "image/bmp",
-                    "image/svg+xml"
-            );
+        // 허용할 이미지 타입 목록
+        List<String> allowedImageTypes = List.of(
+                "image/jpeg",
+                "image/png",
+                "image/gif",
+                "image/webp",
+                "image/bmp",
+                "image/svg+xml"
+        );
 
-            if (!allowedImageTypes.contains(contentType)) {
-                throw new IllegalArgumentException("허용되지 않는 이미지 확장자입니다: " + originalFilename);
-            }
+        if (!allowedImageTypes.contains(contentType)) {
+            throw new IllegalArgumentException("허용되지 않는 이미지 확장자입니다: " + originalFilename);
         }
     }
 
@@ -295,18 +435,41 @@ public class DiaryService {
 
     public List<CalendarDiaryResponseDTO> findMonthlyDiaries(String userId, int year, int month, RequestMetaInfo requestMetaInfo) {
         YearMonth yearMonth = YearMonth.of(year, month);
-        LocalDate startOfMonth = yearMonth.atDay(1);
-        LocalDate endOfMonth = yearMonth.atEndOfMonth();
-
-        List<Diary> diaries = diaryRepository.findByUserIdAndDateBetween(userId, startOfMonth, endOfMonth);
-
-        return diaries.stream().map(diary -> {
-            String coverPhotoUrl = photoRepository.findFirstByDiaryIdAndRepresentIsTrue(diary.getId())
-                    .map(Photo::getUrl)
-                    .map(photoStorage::getPhotoUrl)
-                    .orElse(null); // 대표 이미지가 없는 경우 null 처리, 혹은 기본 이미지 URL 설정
-            return new CalendarDiaryResponseDTO(diary.getId(), coverPhotoUrl, diary.getDate());
-        }).collect(Collectors.toList());
+        return findCalendarDiaries(userId, yearMonth, yearMonth, requestMetaInfo);
+    }
+
+    /**
+     * 여러 달의 캘린더 일기 목록을 한 번에 조회합니다.
+     * 일기와 대표 사진을 한 번의 조인 쿼리로 읽고, 대표 사진은 썸네일 크기의 이미지 게이트웨이 URL 로 반환합니다.
+     *
+     * @param from 시작 월 (포함)
+     * @param to 끝 월 (포함)
+     * @return 날짜순 캘린더 일기 목록
+     * @throws IllegalArgumentException 기간이 잘못되었거나 최대 조회 기간을 넘는 경우
+     */
+    public List<CalendarDiaryResponseDTO> findCalendarDiaries(String userId, YearMonth from, YearMonth to, RequestMetaInfo requestMetaInfo) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("시작 월이 끝 월보다 늦습니다.");
+        }
+        if (from.plusMonths(MAX_CALENDAR_MONTHS).isBefore(to.plusMonths(1))) {
+            throw new IllegalArgumentException("캘린더는 최대 " + MAX_CALENDAR_MONTHS + "개월까지 조회할 수 있습니다.");
+        }
+
+        // 대표 사진이 여러 장인 경우를 대비해 일기별 첫 행만 사용
+        Map<Long, CalendarEntry> entries = new LinkedHashMap<>();
+        for (CalendarEntry entry : diaryRepository.findCalendarEntries(userId, from.atDay(1), to.atEndOfMonth())) {
+            entries.putIfAbsent(entry.diaryId(), entry);
+        }
+
+        List<CalendarDiaryResponseDTO> result = new ArrayList<>(entries.size());
+        for (CalendarEntry entry : entries.values()) {
+            // 대표 이미지가 없는 경우 null 처리
+            String coverPhotoUrl = entry.coverPhotoId() != null
+                    ? imagePathToUrlConverter.diaryPhotoUrl(PhotoVariant.THUMBNAIL.pathFor(entry.coverPhotoId()), requestMetaInfo)
+                    : null;
+            result.add(new CalendarDiaryResponseDTO(entry.diaryId(), coverPhotoUrl, entry.date()));
+        }
+        return result;
     }
 
 
@@ -322,7 +485,7 @@ public class DiaryService {
         }
 
         return photos.stream()
-                .map(photo -> photoStorage.getPhotoUrl(photo.getUrl()))
+                .map(photo -> imagePathToUrlConverter.diaryPhotoUrl(PhotoVariant.FULL.pathFor(photo.getId()), requestMetaInfo))
                 .toList();
     }
 
@@ -357,7 +520,7 @@ public class DiaryService {
     public long countDiariesByUserId(String userId) {
         log.info("사용자 ID: {} 의 일기 개수 조회 요청", userId);
 
-        return diaryRepository.countByUserId(userId);
+        return counterService.get(CounterType.USER_DIARIES, userId);
     }
 
 
@@ -369,9 +532,7 @@ public class DiaryService {
      *     "2025-07": 13
      */
     public List<DiaryMonthCountDTO> getMonthlyDiaryCount(String profileId) {
-        LocalDate monthsAgo = LocalDate.now().minusMonths(6).withDayOfMonth(1);
-        List<DiaryMonthCountDTO> counts = diaryRepository.countDiariesPerMonth(profileId,monthsAgo);
-
-        return counts;
+        YearMonth thisMonth = YearMonth.now();
+        return diaryMonthCountService.getMonthlyCounts(profileId, thisMonth.minusMonths(PROFILE_MONTHLY_COUNT_MONTHS), thisMonth);
     }
 }
@@ -0,0 +1,192 @@
+package store.piku.back.diary.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 피드 클릭 기록을 메모리 버퍼에 모았다가 여러 행 INSERT 한 번으로 저장합니다. (write-behind)
+ * 일정 주기 또는 버퍼에 batchSize 개가 쌓이면 저장하며, 저장은 스케줄러와 전용 스레드에서만 하므로 요청 스레드는 DB를 기다리지 않습니다.
+ * 저장에 실패한 클릭은 버퍼에 다시 넣어 다음 주기에 clickMaxRetries 번까지 다시 시도하고, 그래도 실패하면 버립니다.
+ * 중복 클릭은 읽은 피드 목록에서 먼저 걸러지고, 저장 전까지는 (사용자, 일기) 키로 한 번 더 걸러집니다.
+ */
+@Slf4j
+@Component
+public class FeedClickBuffer {
+
+    private static final String INSERT_PREFIX = "INSERT INTO feed_click (user_id, diary_id, clicked_at) VALUES ";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SeenFeedService seenFeedService;
+    private final FeedProperties feedProperties;
+    private final BlockingQueue<PendingClick> queue;
+    private final Set<PendingClick> pending = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Timer flushTimer;
+    private final Counter overflowCounter;
+    private final Counter droppedCounter;
+    // 버퍼가 batchSize 만큼 찼을 때 저장을 맡기는 스레드. 대기 중인 저장이 있으면 새 요청은 버립니다. (그 저장이 버퍼를 모두 비움)
+    private final ThreadPoolExecutor flushExecutor;
+
+    public FeedClickBuffer(JdbcTemplate jdbcTemplate, SeenFeedService seenFeedService, FeedProperties feedProperties,
+                           MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.seenFeedService = seenFeedService;
+        this.feedProperties = feedProperties;
+        this.queue = new ArrayBlockingQueue<>(feedProperties.getClickBufferCapacity());
+        meterRegistry.gauge("feed.click.buffer.size", queue, BlockingQueue::size);
+        this.flushTimer = meterRegistry.timer("feed.click.flush");
+        this.overflowCounter = meterRegistry.counter("feed.click.buffer.overflow");
+        this.droppedCounter = meterRegistry.counter("feed.click.dropped");
+        this.flushExecutor = new ThreadPoolExecutor(
+                1, 1,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(1),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "feed-click-flush");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    /**
+     * 클릭을 버퍼에 추가합니다. 이미 저장 대기 중인 클릭이면 무시합니다.
+     * 버퍼가 batchSize 만큼 차면 저장 스레드에 저장을 맡기고 바로 반환합니다.
+     *
+     * @return 저장 대기 중이면 true, 버퍼가 가득 차 받지 못했으면 false
+     */
+    public boolean add(String userId, Long diaryId) {
+        PendingClick click = new PendingClick(userId, diaryId, LocalDateTime.now(), 0);
+        if (!pending.add(click)) {
+            return true;
+        }
+        if (!queue.offer(click)) {
+            // 요청 스레드에서 DB에 쓰지 않고 거절합니다. 호출한 쪽이 읽음 표시를 되돌리므로 다시 클릭하면 저장됩니다.
+            pending.remove(click);
+            overflowCounter.increment();
+            log.warn("피드 클릭 버퍼가 가득 차 클릭을 받지 못했습니다. 사용자: {}, 일기: {}", userId, diaryId);
+            flushExecutor.execute(this::flush);
+            return false;
+        }
+        if (queue.size() >= feedProperties.getClickBatchSize()) {
+            flushExecutor.execute(this::flush);
+        }
+        return true;
+    }
+
+    @Scheduled(fixedDelayString = "#{@feedProperties.clickFlushInterval.toMillis()}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        flushExecutor.shutdown();
+        flushExecutor.awaitTermination(5, TimeUnit.SECONDS);
+        flush();
+    }
+
+    /**
+     * 버퍼에 쌓인 클릭을 batchSize 단위로 저장합니다. 다른 스레드가 저장 중이면 건너뜁니다.
+     * 저장에 실패하면 해당 묶음을 버퍼에 다시 넣고 이번 저장을 멈춥니다. (다음 주기에 다시 시도)
+     */
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            int batchSize = feedProperties.getClickBatchSize();
+            List<PendingClick> batch = new ArrayList<>(batchSize);
+            while (queue.drainTo(batch, batchSize) > 0) {
+                List<PendingClick> toInsert = batch;
+                try {
+                    flushTimer.record(() -> insert(toInsert));
+                    toInsert.forEach(pending::remove);
+                } catch (RuntimeException e) {
+                    log.error("피드 클릭 {}건 저장 실패", toInsert.size(), e);
+                    requeue(toInsert);
+                    return;
+                }
+                batch = new ArrayList<>(batchSize);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 저장에 실패한 클릭을 시도 횟수를 늘려 버퍼에 다시 넣습니다.
+     * 최대 시도 횟수를 넘었거나 버퍼에 자리가 없으면 버리고, 다시 클릭하면 저장되도록 읽음 표시를 되돌립니다.
+     */
+    private void requeue(List<PendingClick> clicks) {
+        int dropped = 0;
+        for (PendingClick click : clicks) {
+            if (click.attempts() + 1 > feedProperties.getClickMaxRetries() || !queue.offer(click.retried())) {
+                pending.remove(click);
+                unmarkSeen(click);
+                dropped++;
+            }
+        }
+        if (dropped > 0) {
+            droppedCounter.increment(dropped);
+            log.error("피드 클릭 {}건을 다시 시도하지 못하고 버립니다.", dropped);
+        }
+    }
+
+    private void unmarkSeen(PendingClick click) {
+        try {
+            seenFeedService.unmarkSeen(click.userId(), click.diaryId());
+        } catch (RuntimeException e) {
+            log.warn("읽음 표시 되돌리기 실패. 사용자: {}, 일기: {}", click.userId(), click.diaryId(), e);
+        }
+    }
+
+    private void insert(List<PendingClick> clicks) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        Object[] args = new Object[clicks.size() * 3];
+        for (int i = 0; i < clicks.size(); i++) {
+            sql.append(i == 0 ? "(?, ?, ?)" : ", (?, ?, ?)");
+            args[i * 3] = clicks.get(i).userId();
+            args[i * 3 + 1] = clicks.get(i).diaryId();
+            args[i * 3 + 2] = clicks.get(i).clickedAt();
+        }
+        jdbcTemplate.update(sql.toString(), args);
+        log.debug("피드 클릭 {}건 저장", clicks.size());
+    }
+
+    // 중복 판단은 (사용자, 일기) 로만 합니다. attempts 는 저장에 실패한 횟수입니다.
+    private record PendingClick(String userId, Long diaryId, LocalDateTime clickedAt, int attempts) {
+
+        PendingClick retried() {
+            return new PendingClick(userId, diaryId, clickedAt, attempts + 1);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof PendingClick other && userId.equals(other.userId) && diaryId.equals(other.diaryId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userId, diaryId);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package store.piku.back.diary.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import store.piku.back.diary.entity.FeedSeen;
+import store.piku.back.diary.repository.FeedClickRepository;
+import store.piku.back.diary.repository.FeedSeenRepository;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 보존 기간이 지난 피드 클릭을 사용자별 읽은 일기 목록(feed_seen)으로 합친 뒤 원본 행을 삭제합니다.
+ * 목록은 가장 최근 일기 seenMaxSize 개만 남기므로, 잠근 행을 다시 쓰는 비용도 그 크기를 넘지 않습니다.
+ * feed_click 은 보존 기간만큼의 행만 유지되므로 인덱스 크기와 사용자별 클릭 조회 비용이 늘어나지 않습니다.
+ * 여러 인스턴스에서 동시에 실행될 수 있으므로 사용자별 feed_seen 행을 먼저 만들어 두고(INSERT ... ON DUPLICATE KEY)
+ * SELECT ... FOR UPDATE 로 잠근 뒤 클릭을 읽어 합칩니다. 나중에 잠금을 얻은 쪽은 이미 삭제된 클릭을 보지 못하므로 아무것도 하지 않습니다.
+ * 한 사용자의 압축이 실패해도 로그만 남기고 다음 사용자로 넘어갑니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedClickCompactionJob {
+
+    private final FeedClickRepository feedClickRepository;
+    private final FeedSeenRepository feedSeenRepository;
+    private final FeedProperties feedProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(cron = "${feed.click-compaction-cron:0 0 4 * * *}")
+    public void compact() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(feedProperties.getClickRetention());
+        int batchSize = feedProperties.getClickCompactionBatchSize();
+        log.info("피드 클릭 압축 시작 - 기준 시각: {}", cutoff);
+
+        int users = 0;
+        int rows = 0;
+        // 실패한 사용자의 클릭은 남아 있어 다음 조회에도 나오므로, 그만큼 더 읽고 건너뜁니다.
+        Set<String> failed = new HashSet<>();
+        while (true) {
+            int limit = batchSize + failed.size();
+            List<String> userIds = feedClickRepository.findUserIdsWithClicksBefore(cutoff, PageRequest.of(0, limit));
+            for (String userId : userIds) {
+                if (failed.contains(userId)) {
+                    continue;
+                }
+                try {
+                    Integer deleted = transactionTemplate.execute(status -> compactUser(userId, cutoff));
+                    rows += deleted != null ? deleted : 0;
+                    users++;
+                } catch (RuntimeException e) {
+                    failed.add(userId);
+                    log.error("사용자 {} 피드 클릭 압축 실패", userId, e);
+                }
+            }
+            if (userIds.size() < limit) {
+                break;
+            }
+        }
+
+        log.info("피드 클릭 압축 완료 - 사용자 {}명, 삭제한 클릭 {}건, 실패 {}명", users, rows, failed.size());
+    }
+
+    private int compactUser(String userId, LocalDateTime cutoff) {
+        feedSeenRepository.insertIfAbsent(userId);
+        FeedSeen seen = feedSeenRepository.findByIdForUpdate(userId)
+                .orElseThrow(() -> new IllegalStateException("feed_seen 행이 없습니다: " + userId));
+        // 잠금을 얻은 뒤에 읽어야 다른 인스턴스가 이미 합치고 삭제한 클릭을 다시 합치지 않습니다.
+        List<Long> diaryIds = feedClickRepository.findClickedDiaryIdsBefore(userId, cutoff);
+        if (diaryIds.isEmpty()) {
+            return 0;
+        }
+        seen.addDiaryIds(diaryIds, feedProperties.getSeenMaxSize());
+        return feedClickRepository.deleteClicksBefore(userId, cutoff);
+    }
+}
@@ -0,0 +1,195 @@
+package store.piku.back.diary.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import store.piku.back.comment.service.CommentService;
+import store.piku.back.diary.dto.FeedCard;
+import store.piku.back.diary.dto.FeedPhoto;
+import store.piku.back.diary.dto.ResponseDTO;
+import store.piku.back.diary.entity.Diary;
+import store.piku.back.diary.enums.FriendStatus;
+import store.piku.back.diary.enums.PhotoVariant;
+import store.piku.back.diary.repository.DiaryRepository;
+import store.piku.back.diary.repository.PhotoRepository;
+import store.piku.back.friend.service.FriendRequestService;
+import store.piku.back.global.dto.RequestMetaInfo;
+import store.piku.back.global.util.ImagePathToUrlConverter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 피드 한 페이지 분량의 일기 ID 를 응답 DTO 로 채웁니다.
+ * 일기(작성자 포함), 사진, 댓글 수, 친구 관계를 페이지 단위 IN 쿼리로 한 번씩만 조회하므로
+ * 페이지 크기와 관계없이 쿼리 수가 일정합니다.
+ * 조회 결과는 요청 정보와 무관한 FeedCard 로 먼저 만들고(캐시 가능), 응답 시점에 URL 을 붙여 ResponseDTO 로 변환합니다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class FeedHydrator {
+
+    private final DiaryRepository diaryRepository;
+    private final PhotoRepository photoRepository;
+    private final CommentService commentService;
+    private final FriendRequestService friendRequestService;
+    private final ImagePathToUrlConverter imagePathToUrlConverter;
+
+    /**
+     * ID 목록 순서대로 피드 응답을 만듭니다. 삭제되었거나 아직 커밋되지 않은 일기는 건너뜁니다.
+     *
+     * @param diaryIds 페이지에 포함할 일기 ID (표시 순서)
+     * @param user_id 조회하는 사용자 ID
+     * @return 피드 응답 목록
+     */
+    public List<ResponseDTO> hydrate(List<Long> diaryIds, RequestMetaInfo requestMetaInfo, String user_id) {
+        return render(loadCards(diaryIds, user_id), requestMetaInfo);
+    }
+
+    /**
+     * ID 목록 순서대로 피드 항목 데이터를 조회합니다. 삭제되었거나 아직 커밋되지 않은 일기는 건너뜁니다.
+     *
+     * @param diaryIds 일기 ID (표시 순서)
+     * @param user_id 조회하는 사용자 ID
+     * @return 요청 정보와 무관한 피드 항목 목록
+     */
+    public List<FeedCard> loadCards(List<Long> diaryIds, String user_id) {
+        return loadCards(diaryIds, user_id, Map.of());
+    }
+
+    /**
+     * ID 목록 순서대로 피드 항목 데이터를 조회합니다.
+     * prebuilt 에 있는 일기는 DB 에서 다시 읽지 않고 친구 관계만 채웁니다.
+     *
+     * @param diaryIds 일기 ID (표시 순서)
+     * @param user_id 조회하는 사용자 ID
+     * @param prebuilt 미리 만들어 둔 사용자 무관 피드 항목 (일기 ID 별)
+     * @return 요청 정보와 무관한 피드 항목 목록
+     */
+    public List<FeedCard> loadCards(List<Long> diaryIds, String user_id, Map<Long, FeedCard> prebuilt) {
+        if (diaryIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> missingIds = diaryIds.stream()
+                .filter(id -> !prebuilt.containsKey(id))
+                .toList();
+        Map<Long, FeedCard> loaded = loadBaseCards(missingIds).stream()
+                .collect(Collectors.toMap(FeedCard::diaryId, Function.identity()));
+
+        List<FeedCard> cards = diaryIds.stream()
+                .map(id -> prebuilt.containsKey(id) ? prebuilt.get(id) : loaded.get(id))
+                .filter(Objects::nonNull)
+                .toList();
+        if (cards.isEmpty()) {
+            return List.of();
+        }
+
+        Set<String> authorIds = cards.stream().map(FeedCard::userId).collect(Collectors.toSet());
+        Map<String, FriendStatus> friendStatuses = friendRequestService.getFriendshipStatuses(user_id, authorIds);
+
+        return cards.stream()
+                .map(card -> card.withFriendStatus(friendStatuses.getOrDefault(card.userId(), FriendStatus.NONE)))
+                .toList();
+    }
+
+    /**
+     * 조회하는 사용자와 무관한 피드 항목 데이터를 ID 목록 순서대로 조회합니다. (friendStatus 는 비어 있음)
+     *
+     * @param diaryIds 일기 ID (표시 순서)
+     * @return 친구 관계를 제외한 피드 항목 목록
+     */
+    public List<FeedCard> loadBaseCards(List<Long> diaryIds) {
+        if (diaryIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Diary> diariesById = diaryRepository.findByIdIn(diaryIds).stream()
+                .collect(Collectors.toMap(Diary::getId, Function.identity()));
+        List<Diary> diaries = diaryIds.stream()
+                .map(diariesById::get)
+                .filter(Objects::nonNull)
+                .toList();
+        if (diaries.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> foundIds = diaries.stream().map(Diary::getId).toList();
+        Map<Long, List<String>> photoPaths = loadPhotoPaths(foundIds);
+        Map<Long, Long> commentCounts = commentService.countAllCommentsByDiaryIds(foundIds);
+
+        return diaries.stream()
+                .map(diary -> new FeedCard(
+                        diary.getId(),
+                        diary.getStatus(),
+                        diary.getContent(),
+                        photoPaths.getOrDefault(diary.getId(), List.of()),
+                        diary.getDate(),
+                        diary.getUser().getNickname(),
+                        diary.getUser().getAvatar(),
+                        diary.getUser().getId(),
+                        diary.getCreatedAt(),
+                        null,
+                        commentCounts.getOrDefault(diary.getId(), 0L)
+                ))
+                .toList();
+    }
+
+    /**
+     * 피드 항목을 응답 DTO 로 변환합니다. 사진은 이미지 게이트웨이 URL 로 내려가므로 서명 작업이 없습니다.
+     */
+    public List<ResponseDTO> render(List<FeedCard> cards, RequestMetaInfo requestMetaInfo) {
+        List<ResponseDTO> responses = new ArrayList<>(cards.size());
+        int photoCount = 0;
+        for (FeedCard card : cards) {
+            List<String> urls = new ArrayList<>(card.photoPaths().size());
+            for (String photoPath : card.photoPaths()) {
+                urls.add(imagePathToUrlConverter.diaryPhotoUrl(photoPath, requestMetaInfo));
+            }
+            photoCount += urls.size();
+            responses.add(new ResponseDTO(
+                    card.diaryId(),
+                    card.status(),
+                    card.content(),
+                    urls,
+                    card.date(),
+                    card.nickname(),
+                    imagePathToUrlConverter.userAvatarImageUrl(card.avatarPath(), requestMetaInfo),
+                    card.userId(),
+                    card.createdAt(),
+                    card.friendStatus(),
+                    card.commentCount()
+            ));
+        }
+        log.debug("피드 {}건 응답 생성 (사진 {}장)", cards.size(), photoCount);
+        return responses;
+    }
+
+    /**
+     * 일기별 사진의 게이트웨이 경로(카드 크기)를 대표 사진이 앞에 오도록 정렬해 반환합니다.
+     */
+    private Map<Long, List<String>> loadPhotoPaths(List<Long> diaryIds) {
+        Map<Long, List<FeedPhoto>> photosByDiary = new HashMap<>();
+        for (FeedPhoto photo : photoRepository.findFeedPhotosByDiaryIdIn(diaryIds)) {
+            photosByDiary.computeIfAbsent(photo.diaryId(), id -> new ArrayList<>()).add(photo);
+        }
+
+        Map<Long, List<String>> pathsByDiary = new HashMap<>();
+        for (Map.Entry<Long, List<FeedPhoto>> entry : photosByDiary.entrySet()) {
+            List<FeedPhoto> photos = entry.getValue();
+            photos.sort(Comparator.comparing(photo -> !Boolean.TRUE.equals(photo.represent())));
+            pathsByDiary.put(entry.getKey(), photos.stream()
+                    .map(photo -> PhotoVariant.CARD.pathFor(photo.photoId()))
+                    .toList());
+        }
+        return pathsByDiary;
+    }
+}
@@ -0,0 +1,81 @@
+package store.piku.back.diary.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import store.piku.back.diary.dto.FeedPageSnapshot;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * 사용자별로 조립이 끝난 피드 앞부분(N 개)을 Redis 에 JSON 으로 보관합니다.
+ * 친구의 새 일기, 친구 관계 변경, 피드 클릭 시 해당 사용자의 캐시를 지우며, 그 밖의 변경(댓글 수 등)은 TTL 로 반영됩니다.
+ */
+@Slf4j
+@Component
+public class FeedPageCache {
+
+    private static final String PAGE_KEY_PREFIX = "feed:page:v2:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final FeedProperties feedProperties;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public FeedPageCache(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                         FeedProperties feedProperties, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.feedProperties = feedProperties;
+        this.hitCounter = meterRegistry.counter("feed.page.cache", "result", "hit");
+        this.missCounter = meterRegistry.counter("feed.page.cache", "result", "miss");
+    }
+
+    public Optional<FeedPageSnapshot> get(String userId) {
+        String json = redisTemplate.opsForValue().get(key(userId));
+        if (json == null) {
+            missCounter.increment();
+            return Optional.empty();
+        }
+        try {
+            FeedPageSnapshot snapshot = objectMapper.readValue(json, FeedPageSnapshot.class);
+            hitCounter.increment();
+            return Optional.of(snapshot);
+        } catch (JsonProcessingException e) {
+            log.warn("사용자 {} 피드 캐시 역직렬화 실패, 캐시를 삭제합니다: {}", userId, e.getMessage());
+            evict(userId);
+            missCounter.increment();
+            return Optional.empty();
+        }
+    }
+
+    public void put(String userId, FeedPageSnapshot snapshot) {
+        try {
+            redisTemplate.opsForValue().set(key(userId), objectMapper.writeValueAsString(snapshot),
+                    feedProperties.getPageCacheTtl());
+        } catch (JsonProcessingException e) {
+            log.warn("사용자 {} 피드 캐시 저장 실패: {}", userId, e.getMessage());
+        }
+    }
+
+    public void evict(String userId) {
+        redisTemplate.delete(key(userId));
+    }
+
+    public void evictAll(Collection<String> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.delete(userIds.stream().map(this::key).toList());
+    }
+
+    private String key(String userId) {
+        return PAGE_KEY_PREFIX + userId;
+    }
+}
@@ -0,0 +1,59 @@
+package store.piku.back.diary.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "feed")
+public class FeedProperties {
+    // 사용자별 타임라인에 유지할 최대 일기 수
+    private int timelineMaxSize = 1000;
+    // 타임라인 만료 시간 (만료되면 다음 조회 시 DB에서 재구성)
+    private Duration timelineTtl = Duration.ofDays(7);
+    // 비어 있는 타임라인 표시의 만료 시간 (친구나 일기가 없는 사용자가 조회할 때마다 DB에서 재구성하지 않도록)
+    private Duration emptyTimelineTtl = Duration.ofMinutes(10);
+    // 피드 정렬 후보로 읽을 친구 타임라인의 최신 항목 수
+    private int rankFriendCandidates = 500;
+    // 읽은 피드 목록 만료 시간 (만료되면 다음 조회 시 feed_seen, feed_click 테이블에서 재구성)
+    private Duration seenTtl = Duration.ofDays(30);
+    // 사용자별로 기억할 읽은 일기 수 (가장 최근 일기부터, 피드 후보 수보다 넉넉하게 설정)
+    private int seenMaxSize = 5000;
+    // 저장 대기 중인 피드 클릭을 담는 버퍼 크기
+    private int clickBufferCapacity = 10000;
+    // 피드 클릭을 한 번에 저장할 최대 행 수
+    private int clickBatchSize = 500;
+    // 피드 클릭 버퍼 저장 주기
+    private Duration clickFlushInterval = Duration.ofSeconds(1);
+    // 저장에 실패한 피드 클릭을 다시 시도할 최대 횟수 (넘으면 버림)
+    private int clickMaxRetries = 3;
+    // 사용자별로 캐시할 피드 앞부분 개수 (이 범위 안의 페이지는 캐시에서 응답)
+    private int pageCacheSize = 50;
+    // 피드 캐시 만료 시간 (댓글 수 등 무효화 대상이 아닌 변경이 반영되는 주기)
+    private Duration pageCacheTtl = Duration.ofMinutes(5);
+    // 인스턴스 메모리에 미리 만들어 둘 최신 전체공개 일기 수
+    private int publicHotListSize = 1000;
+    // 전체공개 피드 목록 갱신 주기
+    private Duration publicHotListRefreshInterval = Duration.ofSeconds(30);
+    // 피드 점수 1점에 해당하는 작성 시각 차이 (기본: 하루 늦게 쓴 일기 = +1점)
+    private Duration rankRecencyUnit = Duration.ofDays(1);
+    // 댓글 1개당 더할 점수
+    private double rankCommentWeight = 0.2;
+    // 친구공개 일기에 더할 점수
+    private double rankFriendWeight = 3.0;
+    // 이미 읽은 일기에서 뺄 점수 (안 읽은 일기가 항상 먼저 오도록 크게 설정)
+    private double rankSeenPenalty = 1000.0;
+    // 같은 점수대의 순서를 섞기 위한 무작위 점수 범위
+    private double rankJitter = 0.5;
+    // 점수를 유지할 최대 일기 수
+    private int rankMaxSize = 10000;
+    // 피드 클릭 원본(feed_click)을 보관할 기간 (지나면 feed_seen 읽은 일기 목록으로 압축 후 삭제)
+    private Duration clickRetention = Duration.ofDays(30);
+    // 한 번의 압축 작업에서 처리할 사용자 수 단위
+    private int clickCompactionBatchSize = 100;
+}
@@ -0,0 +1,24 @@
+package store.piku.back.diary.service;
+
+import store.piku.back.diary.dto.SeenDiaries;
+import store.piku.back.diary.dto.TimelineEntry;
+
+import java.util.List;
+
+/**
+ * 피드 후보 일기의 노출 순서를 정합니다.
+ * 같은 사용자, 같은 seed 로 호출하면 항상 같은 순서를 반환해야 합니다. (페이지 간 순서 고정)
+ */
+public interface FeedRanker {
+
+    /**
+     * @param userId 조회하는 사용자 ID
+     * @param friendEntries 친구공개 타임라인 후보
+     * @param publicEntries 전체공개 타임라인 후보
+     * @param seenDiaries 사용자가 이미 클릭한 일기
+     * @param seed 동점 처리와 무작위 요소에 사용할 seed
+     * @return 노출할 일기 ID (노출 순서)
+     */
+    List<Long> rank(String userId, List<TimelineEntry> friendEntries, List<TimelineEntry> publicEntries,
+                    SeenDiaries seenDiaries, long seed);
+}
@@ -0,0 +1,111 @@
+package store.piku.back.diary.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import store.piku.back.diary.dto.TimelineEntry;
+import store.piku.back.diary.entity.Diary;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자와 무관한 일기별 피드 점수 (Redis Sorted Set)
+ * 점수 = 작성 시각 / recency 단위 + 댓글 가중치 × 댓글 수
+ * 작성 시각을 점수에 그대로 더하므로 시간이 지나도 다시 계산할 필요 없이 새 일기가 자연스럽게 위로 올라오고,
+ * 댓글이 달릴 때마다 ZINCRBY 로 활동 점수만 더하고, 댓글이 삭제되면 같은 만큼 빼되 기본 점수 아래로는 내리지 않습니다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class FeedScoreService {
+
+    private static final String SCORE_KEY = "feed:rank";
+    private static final byte[] RAW_SCORE_KEY = SCORE_KEY.getBytes(StandardCharsets.UTF_8);
+
+    // 점수가 있는 일기만 활동 점수를 뺍니다. (잘려 나간 일기에 기본 점수보다 낮은 점수가 새로 생기지 않도록)
+    // ARGV: 일기 ID, 뺄 점수, 기본 점수
+    private static final RedisScript<Long> DECREMENT_IF_PRESENT = new DefaultRedisScript<>(
+            "local score = redis.call('ZSCORE', KEYS[1], ARGV[1]) " +
+            "if not score then return 0 end " +
+            "local delta = math.max(-tonumber(ARGV[2]), tonumber(ARGV[3]) - tonumber(score)) " +
+            "if delta < 0 then redis.call('ZINCRBY', KEYS[1], delta, ARGV[1]) end " +
+            "return 1", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final FeedProperties feedProperties;
+
+    /**
+     * 새 일기의 기본 점수를 등록합니다.
+     */
+    public void onDiaryCreated(Diary diary) {
+        byte[] member = member(diary.getId());
+        double base = baseScore(TimelineEntry.toEpochMilli(diary.getCreatedAt()));
+        long maxSize = feedProperties.getRankMaxSize();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.zSetCommands().zAdd(RAW_SCORE_KEY, base, member, RedisZSetCommands.ZAddArgs.ifNotExists());
+            // 점수가 낮은 일기부터 잘라 최대 maxSize 개만 유지 (빠진 일기는 조회 시 기본 점수로 계산)
+            connection.zSetCommands().zRemRange(RAW_SCORE_KEY, 0, -(maxSize + 1));
+            return null;
+        });
+    }
+
+    /**
+     * 일기에 댓글이 달렸을 때 활동 점수를 더합니다.
+     */
+    public void onComment(Diary diary) {
+        byte[] member = member(diary.getId());
+        double base = baseScore(TimelineEntry.toEpochMilli(diary.getCreatedAt()));
+        double increment = feedProperties.getRankCommentWeight();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            // 점수가 없는 일기는 기본 점수부터 등록한 뒤 더합니다.
+            connection.zSetCommands().zAdd(RAW_SCORE_KEY, base, member, RedisZSetCommands.ZAddArgs.ifNotExists());
+            connection.zSetCommands().zIncrBy(RAW_SCORE_KEY, increment, member);
+            return null;
+        });
+    }
+
+    /**
+     * 일기의 댓글이 삭제되었을 때 더했던 활동 점수를 뺍니다. 점수가 없는 일기는 이미 기본 점수로 계산되므로 건너뜁니다.
+     */
+    public void onCommentDeleted(Diary diary) {
+        double base = baseScore(TimelineEntry.toEpochMilli(diary.getCreatedAt()));
+        redisTemplate.execute(DECREMENT_IF_PRESENT, List.of(SCORE_KEY), String.valueOf(diary.getId()),
+                String.valueOf(feedProperties.getRankCommentWeight()), String.valueOf(base));
+    }
+
+    /**
+     * 타임라인 항목들의 점수를 한 번에 조회합니다. 점수가 없는 일기는 기본 점수를 사용합니다.
+     *
+     * @return 일기 ID 별 점수
+     */
+    public Map<Long, Double> getScores(List<TimelineEntry> entries) {
+        Map<Long, Double> scores = new HashMap<>(entries.size() * 2);
+        if (entries.isEmpty()) {
+            return scores;
+        }
+        Object[] members = entries.stream().map(entry -> String.valueOf(entry.diaryId())).toArray();
+        List<Double> stored = redisTemplate.opsForZSet().score(SCORE_KEY, members);
+        for (int i = 0; i < entries.size(); i++) {
+            TimelineEntry entry = entries.get(i);
+            Double score = stored != null ? stored.get(i) : null;
+            scores.put(entry.diaryId(), score != null ? score : baseScore(entry.createdAt()));
+        }
+        return scores;
+    }
+
+    private double baseScore(long createdAt) {
+        return (double) createdAt / feedProperties.getRankRecencyUnit().toMillis();
+    }
+
+    private byte[] member(Long diaryId) {
+        return String.valueOf(diaryId).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -8,24 +8,28 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import store.piku.back.comment.service.CommentService;
+import store.piku.back.diary.dto.FeedCard;
+import store.piku.back.diary.dto.FeedCursor;
+import store.piku.back.diary.dto.FeedPageSnapshot;
+import store.piku.back.diary.dto.FeedSliceResponseDTO;
 import store.piku.back.diary.dto.ResponseDTO;
+import store.piku.back.diary.dto.SeenDiaries;
+import store.piku.back.diary.dto.TimelineEntry;
 import store.piku.back.diary.entity.Diary;
-import store.piku.back.diary.entity.FeedClick;
 import store.piku.back.diary.entity.Photo;
-import store.piku.back.diary.enums.FriendStatus;
 import store.piku.back.diary.enums.Status;
-import store.piku.back.diary.repository.DiaryRepository;
-import store.piku.back.diary.repository.FeedClickRepository;
 import store.piku.back.diary.repository.PhotoRepository;
 import store.piku.back.friend.service.FriendRequestService;
 import store.piku.back.global.dto.RequestMetaInfo;
 import store.piku.back.global.util.ImagePathToUrlConverter;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.function.BiFunction;
 
 @Service
 @Slf4j
@@ -36,10 +40,16 @@ public class FeedService {
     private final DiaryService diaryService;
     private final CommentService commentService;
     private final PhotoRepository photoRepository;
-    private final DiaryRepository diaryRepository;
     private final ImagePathToUrlConverter imagePathToUrlConverter;
     private final FriendRequestService friendRequestService;
-    private final FeedClickRepository feedClickRepository;
+    private final FeedTimelineService feedTimelineService;
+    private final SeenFeedService seenFeedService;
+    private final FeedHydrator feedHydrator;
+    private final FeedClickBuffer feedClickBuffer;
+    private final FeedPageCache feedPageCache;
+    private final FeedProperties feedProperties;
+    private final PublicFeedHotList publicFeedHotList;
+    private final FeedRanker feedRanker;
 
 
     @Transactional(readOnly = true)
@@ -96,86 +106,168 @@ public class FeedService {
     /**
      * 공개 상태인 일기들을 페이지네이션과 함께 조회하고,
      * 각 일기별 대표 사진이 앞에 오도록 사진 URL 리스트를 정렬하여 반환합니다.
+     * 후보 일기는 Redis 타임라인(ID + 작성 시각)에서 가져와 FeedRanker 로 정렬하고, 요청한 페이지의 일기만 DB에서 조회합니다.
      *
      * @param pageable 조회할 페이지 번호 (0부터 시작)
      * @return 공개된 일기 리스트의 DTO를 담은 Page
      */
     public Page<ResponseDTO> getAllDiaries(Pageable pageable , RequestMetaInfo requestMetaInfo, String user_id) {
 
-        List<String> allowed = List.of("createdAt");
-        Pageable safePageable = diaryService.sanitizePageable(pageable,allowed);
-
-        List<String> friendIds = friendRequestService.findFriendIdList(safePageable,user_id,requestMetaInfo);
-        List<Long> clickedFeedIds = feedClickRepository.findClickedDiaryIdsByUserId(user_id);
-        LocalDateTime threeDaysAgo = LocalDateTime.now().minusDays(3);
-
-        // 1. 클릭 안 한 && 친구공개
-        List<Diary> unreadFriendFeeds = diaryRepository.findUnreadFeedsByVisibilityAndUserIds(
-                Status.FRIENDS, friendIds, clickedFeedIds
-        );
-        // 2. 클릭 안 한 && 전체공개
-        List<Diary> unreadPublicFeeds = diaryRepository.findUnreadPublicFeeds(clickedFeedIds);
-
-        // 3. 클릭했지만 3일 이내 작성된 피드 (랜덤)
-        List<Diary> recentClickedFeeds = diaryRepository.findClickedFeedsAfter(clickedFeedIds, threeDaysAgo);
-        Collections.shuffle(recentClickedFeeds);
+        int start = (int) pageable.getOffset();
+        int cacheSize = feedProperties.getPageCacheSize();
+        boolean cacheable = start + pageable.getPageSize() <= cacheSize;
 
-        // 우선순위대로 합침
-        List<Diary> combined = new ArrayList<>();
-        combined.addAll(unreadFriendFeeds);
-        combined.addAll(unreadPublicFeeds);
-        combined.addAll(recentClickedFeeds);
+        // 앞쪽 페이지는 캐시된 피드로 응답 (사진 URL 만 새로 생성)
+        if (cacheable) {
+            Optional<FeedPageSnapshot> cached = feedPageCache.get(user_id);
+            if (cached.isPresent()) {
+                return toPage(cached.get(), pageable, requestMetaInfo);
+            }
+        }
 
+        // 친구공개 + 전체공개(모든 사용자가 공유하는 목록) 후보를 점수순으로 정렬
+        // seed 를 사용자 + 날짜로 고정해 같은 날에는 페이지를 넘겨도 순서가 바뀌지 않습니다.
+        List<TimelineEntry> friendEntries = feedTimelineService.getFriendTimeline(user_id, feedProperties.getRankFriendCandidates());
+        List<TimelineEntry> publicEntries = publicFeedHotList.getEntries();
+        List<Long> candidateIds = new ArrayList<>(friendEntries.size() + publicEntries.size());
+        friendEntries.forEach(entry -> candidateIds.add(entry.diaryId()));
+        publicEntries.forEach(entry -> candidateIds.add(entry.diaryId()));
+        List<Long> combined = feedRanker.rank(
+                user_id,
+                friendEntries,
+                publicEntries,
+                seenFeedService.getSeenDiaries(user_id, candidateIds),
+                rankingSeed(user_id));
 
         // 총 개수
         int total = combined.size();
 
+        if (cacheable) {
+            List<FeedCard> cards = feedHydrator.loadCards(
+                    combined.subList(0, Math.min(cacheSize, total)), user_id, publicFeedHotList.getCards());
+            FeedPageSnapshot snapshot = new FeedPageSnapshot(total, cards);
+            feedPageCache.put(user_id, snapshot);
+            return toPage(snapshot, pageable, requestMetaInfo);
+        }
+
         // 페이징 적용
-        int start = (int) pageable.getOffset();
         int end = Math.min(start + pageable.getPageSize(), total);
-        List<Diary> pagedDiaries;
+        List<Long> pagedIds;
 
         if (start >= total) {
-            pagedDiaries = Collections.emptyList();
+            pagedIds = Collections.emptyList();
         } else {
-            pagedDiaries = combined.subList(start, end);
+            pagedIds = combined.subList(start, end);
         }
 
+        // 요청한 페이지의 일기만 조회
+        List<ResponseDTO> responseList = feedHydrator.render(
+                feedHydrator.loadCards(pagedIds, user_id, publicFeedHotList.getCards()), requestMetaInfo);
 
-        List<ResponseDTO> responseList = pagedDiaries.stream().map(diary -> {
-            List<Photo> photos = photoRepository.findByDiaryId(diary.getId());
-            List<String> sortedPhotoUrls = diaryService.sortPhotos(photos,requestMetaInfo);
-            String avatarUrl = imagePathToUrlConverter.userAvatarImageUrl(diary.getUser().getAvatar(), requestMetaInfo);
-            FriendStatus friendshipStatus = friendRequestService.getFriendshipStatus(user_id, diary.getUser().getId());
 
-            return new ResponseDTO(
-                    diary.getId(),
-                    diary.getStatus(),
-                    diary.getContent(),
-                    sortedPhotoUrls,
-                    diary.getDate(),
-                    diary.getUser().getNickname(),
-                    avatarUrl,
-                    diary.getUser().getId(),
-                    diary.getCreatedAt(),
-                    friendshipStatus,
-                    commentService.countAllCommentsByDiaryId(diary.getId())
-            );
-        }) .collect(Collectors.toList());
+        return new PageImpl<>(responseList, pageable, total);
+    }
+
+    private Page<ResponseDTO> toPage(FeedPageSnapshot snapshot, Pageable pageable, RequestMetaInfo requestMetaInfo) {
+        List<FeedCard> cards = snapshot.cards();
+        int start = Math.min((int) pageable.getOffset(), cards.size());
+        int end = Math.min(start + pageable.getPageSize(), cards.size());
+        return new PageImpl<>(feedHydrator.render(cards.subList(start, end), requestMetaInfo), pageable, snapshot.total());
+    }
+
+    /**
+     * 커서(keyset) 기반으로 피드를 조회합니다.
+     * 우선순위 티어(안 읽은 친구공개 → 안 읽은 전체공개 → 3일 이내 읽은 피드)를 차례로 읽으며,
+     * 각 티어는 커서에 기록된 위치(작성 시각, 일기 ID) 이후의 항목만 size 만큼 타임라인에서 읽으므로 깊은 페이지도 첫 페이지와 비용이 같습니다.
+     *
+     * @param cursor 이전 응답의 nextCursor 를 해석한 커서 (첫 페이지는 FeedCursor.first())
+     * @param size 페이지 크기
+     * @return 피드 목록과 다음 커서
+     */
+    public FeedSliceResponseDTO getDiariesByCursor(FeedCursor cursor, int size, RequestMetaInfo requestMetaInfo, String user_id) {
+        long threeDaysAgo = TimelineEntry.toEpochMilli(LocalDateTime.now().minusDays(3));
 
+        List<Long> pagedIds = new ArrayList<>(size);
 
-        return new PageImpl<>(responseList, pageable, total);
+        // 1. 클릭 안 한 && 친구공개
+        FeedCursor.Position unreadFriend = fillTier(pagedIds, size, cursor.unreadFriend(), user_id, false,
+                (before, count) -> feedTimelineService.getFriendTimelineBetween(user_id, FeedCursor.EXHAUSTED.createdAt(), before, count));
+
+        // 2. 클릭 안 한 && 전체공개
+        FeedCursor.Position unreadPublic = fillTier(pagedIds, size, cursor.unreadPublic(), user_id, false,
+                (before, count) -> feedTimelineService.getPublicTimelineBetween(FeedCursor.EXHAUSTED.createdAt(), before, count));
+
+        // 3. 클릭했지만 3일 이내 작성된 피드 (두 타임라인을 작성 시각 순으로 병합)
+        FeedCursor.Position recentClicked = fillTier(pagedIds, size, cursor.recentClicked(), user_id, true,
+                (before, count) -> mergeByCreatedAt(
+                        feedTimelineService.getFriendTimelineBetween(user_id, threeDaysAgo, before, count),
+                        feedTimelineService.getPublicTimelineBetween(threeDaysAgo, before, count),
+                        count));
+
+        FeedCursor next = new FeedCursor(unreadFriend, unreadPublic, recentClicked);
+
+        return new FeedSliceResponseDTO(
+                feedHydrator.render(feedHydrator.loadCards(pagedIds, user_id, publicFeedHotList.getCards()), requestMetaInfo),
+                next.hasNext() ? next.encode() : null,
+                next.hasNext()
+        );
+    }
+
+    /**
+     * 한 티어에서 position 이후의 항목을 읽어 페이지를 채우고, 다음에 이어 읽을 위치를 반환합니다.
+     * 읽은 항목마다 클릭 여부를 읽은 피드 목록에서 확인해 seen 과 같은 항목만 담습니다.
+     * 티어를 끝까지 읽었으면 FeedCursor.EXHAUSTED 를 반환합니다.
+     */
+    private FeedCursor.Position fillTier(List<Long> pagedIds, int size, FeedCursor.Position position, String userId,
+                                         boolean seen, BiFunction<FeedCursor.Position, Integer, List<TimelineEntry>> reader) {
+        while (pagedIds.size() < size && !position.equals(FeedCursor.EXHAUSTED)) {
+            // 이미 읽은 항목이 걸러지므로 모자란 개수의 두 배씩 읽습니다.
+            int batchSize = (size - pagedIds.size()) * 2;
+            List<TimelineEntry> entries = reader.apply(position, batchSize);
+            SeenDiaries seenDiaries = seenFeedService.getSeenDiaries(userId,
+                    entries.stream().map(TimelineEntry::diaryId).toList());
+            for (TimelineEntry entry : entries) {
+                position = FeedCursor.Position.of(entry);
+                if (seenDiaries.contains(entry.diaryId()) == seen) {
+                    pagedIds.add(entry.diaryId());
+                    if (pagedIds.size() == size) {
+                        return position;
+                    }
+                }
+            }
+            if (entries.size() < batchSize) {
+                return FeedCursor.EXHAUSTED;
+            }
+        }
+        return position;
+    }
+
+    private List<TimelineEntry> mergeByCreatedAt(List<TimelineEntry> first, List<TimelineEntry> second, int limit) {
+        List<TimelineEntry> merged = new ArrayList<>(first.size() + second.size());
+        merged.addAll(first);
+        merged.addAll(second);
+        merged.sort(TimelineEntry.NEWEST_FIRST);
+        return merged.size() > limit ? merged.subList(0, limit) : merged;
+    }
+
+    private long rankingSeed(String userId) {
+        return ((long) userId.hashCode() << 32) ^ LocalDate.now().toEpochDay();
     }
 
 
     public void logClick(String userId, Long diaryId) {
 
-        boolean alreadyClicked = feedClickRepository.existsByUserIdAndDiaryId(userId, diaryId);
-        if (alreadyClicked) {
+        // 읽은 피드 목록에 새로 추가됐는지로 중복 클릭을 판단하므로 DB 존재 여부 조회가 필요 없습니다.
+        if (!seenFeedService.markSeen(userId, diaryId)) {
+            return;
+        }
+        if (!feedClickBuffer.add(userId, diaryId)) {
+            // 저장 대기열에 넣지 못했으므로 읽음 표시를 되돌려 다시 클릭하면 저장되게 합니다.
+            seenFeedService.unmarkSeen(userId, diaryId);
             return;
         }
-        FeedClick click = new FeedClick(userId, diaryId);
-        feedClickRepository.save(click);
+        // 클릭한 피드는 우선순위가 바뀌므로 캐시를 비웁니다.
+        feedPageCache.evict(userId);
     }
 
 }
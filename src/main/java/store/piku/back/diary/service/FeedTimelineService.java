@@ -0,0 +1,239 @@
+package store.piku.back.diary.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Service;
+import store.piku.back.diary.dto.FeedCursor;
+import store.piku.back.diary.dto.TimelineEntry;
+import store.piku.back.diary.entity.Diary;
+import store.piku.back.diary.enums.Status;
+import store.piku.back.diary.repository.DiaryRepository;
+import store.piku.back.friend.repository.FriendRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 홈 피드용 타임라인 저장소 (Redis Sorted Set, score = 작성 시각)
+ * 친구공개 일기는 친구별 타임라인에, 전체공개 일기는 공용 타임라인에 작성 시점에 밀어 넣습니다. (fan-out-on-write)
+ * 타임라인이 없으면 조회 시점에 DB에서 최근 일기로 재구성합니다.
+ * 재구성 결과가 비어 있으면 score 0 의 표시 항목만 넣어 두어 짧은 시간 동안 다시 재구성하지 않으며, 조회는 항상 score 1 이상만 읽습니다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class FeedTimelineService {
+
+    private static final String FRIEND_TIMELINE_KEY_PREFIX = "feed:timeline:friends:";
+    private static final String PUBLIC_TIMELINE_KEY = "feed:timeline:public";
+    // 비어 있는 타임라인 표시 (작성 시각이 될 수 없는 score 0)
+    private static final String EMPTY_MARKER = "0";
+    private static final double EMPTY_MARKER_SCORE = 0;
+
+    private final StringRedisTemplate redisTemplate;
+    private final DiaryRepository diaryRepository;
+    private final FriendRepository friendRepository;
+    private final FeedProperties feedProperties;
+
+    /**
+     * 새로 작성된 일기를 볼 수 있는 사용자들의 타임라인에 추가합니다.
+     * 아직 만들어지지 않은 타임라인은 조회 시 DB에서 재구성되므로 건너뜁니다.
+     *
+     * @param diary 작성된 일기
+     * @param friendIds 작성자의 친구 ID 목록 (친구공개 일기일 때 사용)
+     */
+    public void push(Diary diary, List<String> friendIds) {
+        List<String> keys;
+        if (diary.getStatus() == Status.PUBLIC) {
+            keys = List.of(PUBLIC_TIMELINE_KEY);
+        } else if (diary.getStatus() == Status.FRIENDS) {
+            keys = friendIds.stream().map(this::friendTimelineKey).toList();
+        } else {
+            return;
+        }
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        List<Object> exists = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String key : keys) {
+                connection.keyCommands().exists(rawKey(key));
+            }
+            return null;
+        });
+
+        List<String> targets = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i++) {
+            if (Boolean.TRUE.equals(exists.get(i))) {
+                targets.add(keys.get(i));
+            }
+        }
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        byte[] member = String.valueOf(diary.getId()).getBytes(StandardCharsets.UTF_8);
+        double score = TimelineEntry.toEpochMilli(diary.getCreatedAt());
+        int maxSize = feedProperties.getTimelineMaxSize();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String key : targets) {
+                addAndTrim(connection, rawKey(key), member, score, maxSize);
+            }
+            return null;
+        });
+        log.debug("일기 {} 타임라인 {}개에 추가", diary.getId(), targets.size());
+    }
+
+    /**
+     * 사용자의 친구공개 일기 타임라인에서 최신 항목을 최대 count 개 반환합니다.
+     */
+    public List<TimelineEntry> getFriendTimeline(String userId, int count) {
+        String key = friendTimelineKey(userId);
+        List<TimelineEntry> entries = readLatest(key, count);
+        if (entries.isEmpty() && !Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+            return first(rebuildFriendTimeline(userId), count);
+        }
+        return entries;
+    }
+
+    /**
+     * 전체공개 일기 타임라인에서 최신 항목을 최대 count 개 반환합니다.
+     */
+    public List<TimelineEntry> getPublicTimeline(int count) {
+        List<TimelineEntry> entries = readLatest(PUBLIC_TIMELINE_KEY, count);
+        if (entries.isEmpty() && !Boolean.TRUE.equals(redisTemplate.hasKey(PUBLIC_TIMELINE_KEY))) {
+            return first(rebuildPublicTimeline(), count);
+        }
+        return entries;
+    }
+
+    /**
+     * 친구 타임라인에서 작성 시각이 after 보다 늦고 before 위치보다 뒤인 항목을 최신순으로 최대 count 개 반환합니다. (keyset 조회)
+     */
+    public List<TimelineEntry> getFriendTimelineBetween(String userId, long after, FeedCursor.Position before, int count) {
+        String key = friendTimelineKey(userId);
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+            rebuildFriendTimeline(userId);
+        }
+        return readRange(key, after, before, count);
+    }
+
+    /**
+     * 전체공개 타임라인에서 작성 시각이 after 보다 늦고 before 위치보다 뒤인 항목을 최신순으로 최대 count 개 반환합니다. (keyset 조회)
+     */
+    public List<TimelineEntry> getPublicTimelineBetween(long after, FeedCursor.Position before, int count) {
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(PUBLIC_TIMELINE_KEY))) {
+            rebuildPublicTimeline();
+        }
+        return readRange(PUBLIC_TIMELINE_KEY, after, before, count);
+    }
+
+    /**
+     * 친구 관계가 바뀐 사용자의 타임라인을 비웁니다. 다음 조회 시 재구성됩니다.
+     */
+    public void evictFriendTimeline(String userId) {
+        redisTemplate.delete(friendTimelineKey(userId));
+    }
+
+    private List<TimelineEntry> rebuildFriendTimeline(String userId) {
+        List<String> friendIds = friendRepository.findFriendIds(userId);
+        if (friendIds.isEmpty()) {
+            save(friendTimelineKey(userId), List.of());
+            return List.of();
+        }
+        log.info("사용자 {} 친구 타임라인 재구성", userId);
+        List<TimelineEntry> entries = diaryRepository.findTimelineEntriesByStatusAndUserIds(
+                Status.FRIENDS, friendIds, PageRequest.of(0, feedProperties.getTimelineMaxSize()));
+        save(friendTimelineKey(userId), entries);
+        return entries;
+    }
+
+    private List<TimelineEntry> rebuildPublicTimeline() {
+        log.info("전체공개 타임라인 재구성");
+        List<TimelineEntry> entries = diaryRepository.findTimelineEntriesByStatus(
+                Status.PUBLIC, PageRequest.of(0, feedProperties.getTimelineMaxSize()));
+        save(PUBLIC_TIMELINE_KEY, entries);
+        return entries;
+    }
+
+    private List<TimelineEntry> readLatest(String key, int count) {
+        return toEntries(redisTemplate.opsForZSet()
+                .reverseRangeByScoreWithScores(key, EMPTY_MARKER_SCORE + 1, Double.POSITIVE_INFINITY, 0, count));
+    }
+
+    private List<TimelineEntry> first(List<TimelineEntry> entries, int count) {
+        return entries.size() > count ? entries.subList(0, count) : entries;
+    }
+
+    /**
+     * 같은 score 안에서는 Redis 가 member(일기 ID 문자열)의 사전순으로 정렬하므로,
+     * 먼저 before 와 작성 시각이 같은 항목 중 before 보다 뒤인 것을 읽고, 모자라면 그보다 이전 작성 시각에서 이어 읽습니다.
+     */
+    private List<TimelineEntry> readRange(String key, long after, FeedCursor.Position before, int count) {
+        List<TimelineEntry> entries = new ArrayList<>(count);
+        if (before.createdAt() != FeedCursor.START.createdAt() && before.createdAt() > after) {
+            // 같은 작성 시각의 항목 수는 타임라인 최대 크기를 넘지 않습니다.
+            for (TimelineEntry tie : toEntries(redisTemplate.opsForZSet()
+                    .reverseRangeByScoreWithScores(key, before.createdAt(), before.createdAt()))) {
+                if (before.precedes(tie)) {
+                    entries.add(tie);
+                    if (entries.size() == count) {
+                        return entries;
+                    }
+                }
+            }
+        }
+        // score 는 밀리초 단위 정수이므로 ±1 로 양 끝을 제외합니다.
+        entries.addAll(toEntries(redisTemplate.opsForZSet()
+                .reverseRangeByScoreWithScores(key, after + 1, before.createdAt() - 1, 0, count - entries.size())));
+        return entries;
+    }
+
+    private List<TimelineEntry> toEntries(Set<ZSetOperations.TypedTuple<String>> tuples) {
+        if (tuples == null || tuples.isEmpty()) {
+            return List.of();
+        }
+        List<TimelineEntry> entries = new ArrayList<>(tuples.size());
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            entries.add(new TimelineEntry(Long.valueOf(tuple.getValue()), tuple.getScore().longValue()));
+        }
+        return entries;
+    }
+
+    private void save(String key, List<TimelineEntry> entries) {
+        if (entries.isEmpty()) {
+            redisTemplate.opsForZSet().add(key, EMPTY_MARKER, EMPTY_MARKER_SCORE);
+            redisTemplate.expire(key, feedProperties.getEmptyTimelineTtl());
+            return;
+        }
+        Set<ZSetOperations.TypedTuple<String>> tuples = entries.stream()
+                .map(entry -> (ZSetOperations.TypedTuple<String>) new DefaultTypedTuple<>(
+                        String.valueOf(entry.diaryId()), (double) entry.createdAt()))
+                .collect(Collectors.toSet());
+        redisTemplate.opsForZSet().add(key, tuples);
+        redisTemplate.expire(key, feedProperties.getTimelineTtl());
+    }
+
+    private void addAndTrim(RedisConnection connection, byte[] key, byte[] member, double score, int maxSize) {
+        connection.zSetCommands().zAdd(key, score, member);
+        // 점수가 낮은(오래된) 항목부터 잘라 최대 maxSize 개만 유지
+        connection.zSetCommands().zRemRange(key, 0, -(maxSize + 1L));
+    }
+
+    private String friendTimelineKey(String userId) {
+        return FRIEND_TIMELINE_KEY_PREFIX + userId;
+    }
+
+    private byte[] rawKey(String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+}
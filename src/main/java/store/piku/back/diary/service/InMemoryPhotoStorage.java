@@ -0,0 +1,74 @@
+package store.piku.back.diary.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메모리 저장소 구현 (저장소 처리량 벤치마크와 통합 테스트용)
+ * 프로세스가 끝나면 내용이 사라지며, URL 은 memory:// 형식의 식별용 값입니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "storage", name = "type", havingValue = "memory")
+public class InMemoryPhotoStorage implements PhotoStorage {
+
+    private final Map<String, StoredObject> objects = new ConcurrentHashMap<>();
+
+    @Override
+    public void put(String objectName, InputStream content, long contentLength, String contentType) throws IOException {
+        objects.put(objectName, new StoredObject(content.readAllBytes(), contentType));
+    }
+
+    @Override
+    public InputStream get(String objectName) {
+        StoredObject object = objects.get(objectName);
+        return object == null ? null : new ByteArrayInputStream(object.content());
+    }
+
+    @Override
+    public ObjectInfo head(String objectName) {
+        StoredObject object = objects.get(objectName);
+        return object == null ? null : new ObjectInfo(object.contentType(), object.content().length);
+    }
+
+    @Override
+    public String presignGet(String objectName, Duration expiry) {
+        return "memory://" + objectName;
+    }
+
+    @Override
+    public boolean supportsDirectUpload() {
+        return true;
+    }
+
+    @Override
+    public String presignPut(String objectName, String contentType, Duration expiry) {
+        return "memory://" + objectName;
+    }
+
+    @Override
+    public void delete(String objectName) {
+        objects.remove(objectName);
+    }
+
+    @Override
+    public List<String> deleteAll(Collection<String> objectNames) {
+        objectNames.forEach(objects::remove);
+        return List.of();
+    }
+
+    public int size() {
+        return objects.size();
+    }
+
+    private record StoredObject(byte[] content, String contentType) {
+    }
+}
@@ -1,109 +1,121 @@
-//package store.piku.back.diary.service;
-//
-//import lombok.RequiredArgsConstructor;
-//import lombok.extern.slf4j.Slf4j;
-//import org.springframework.stereotype.Component;
-//import org.springframework.web.multipart.MultipartFile;
-//import store.piku.back.ai.entity.DiaryImageGeneration;
-//import store.piku.back.ai.service.DiaryImageGenerationService;
-//import store.piku.back.diary.entity.Diary;
-//import store.piku.back.diary.entity.Photo;
-//import store.piku.back.diary.repository.PhotoRepository;
-//
-//import java.io.IOException;
-//import java.util.List;
-//
-//@Slf4j
-//@Component
-//@RequiredArgsConstructor
-//public class LocalPhotoStorage implements PhotoStorage{
-//
-//    private final PhotoUtil photoUtil;
-//    private final PhotoRepository photoRepository;
-//    private final DiaryImageGenerationService diaryImageGenerationService;
-//
-//
-//
-//    public void oldSavePhoto(Diary diary, List<MultipartFile> photos, String userId, int coverPhotoIndex) throws IOException {
-//        log.info("사진 저장 시작 - 사용자: {}, 일기 날짜: {}, 사진 개수: {}", userId, diary.getDate(), photos.size());
-//
-//        int i = 0;
-//        for (MultipartFile photo : photos) {
-//            if (!photo.isEmpty()) {
-//                String originalFilename = photo.getOriginalFilename();
-//                String filename = photoUtil.generateFileName(diary.getDate(), originalFilename);
-//
-//                String filePath = photoUtil.saveToLocal(photo, userId, filename);
-//                Photo entity = photoRepository.save(new Photo(diary, filePath));
-//                if (coverPhotoIndex == i){
-//                    entity.updateRepresent(true);
-//                }
-//                i++;
-//            } else {
-//                log.warn("빈 파일 발견 - 사용자: {}, 일기 날짜: {}", userId, diary.getDate());
-//            }
-//        }
-//    }
-//
-//
-//    public void oldSaveAiPhoto(Diary diary, List<Long> aiPhotos, String userId, int coverPhotoIndex) {
-//        log.info("AI 사진 저장 시작 - 사용자: {}, 일기 날짜: {}, AI 사진 개수: {}", userId, diary.getDate(), aiPhotos.size());
-//
-//        int i = 0;
-//        for (Long aiPhotoId : aiPhotos) {
-//            if (aiPhotoId != null) {
-//                DiaryImageGeneration diaryImageGeneration = diaryImageGenerationService.findById(aiPhotoId);
-//                String filePath = diaryImageGeneration.getFilePath();
-//
-//                Photo entity = photoRepository.save(new Photo(diary, filePath));
-//                if (coverPhotoIndex == i){
-//                    entity.updateRepresent(true);
-//                }
-//                diaryImageGenerationService.updateDiaryId(aiPhotoId, diary.getId());
-//                i++;
-//            } else {
-//                log.warn("빈 AI 사진 ID 발견 - 사용자: {}, 일기 날짜: {}", userId, diary.getDate());
-//            }
-//        }
-//    }
-//
-//    @Override
-//    public void savePhoto(Diary diary, MultipartFile photo, String userId, Integer order) throws IOException {
-//        log.info("사진 저장 시작 - 사용자: {}, 일기 날짜: {}", userId, diary.getDate());
-//
-//        if (!photo.isEmpty()) {
-//            String originalFilename = photo.getOriginalFilename();
-//            String filename = photoUtil.generateFileName(diary.getDate(), originalFilename);
-//
-//            String filePath = photoUtil.saveToLocal(photo, userId, filename);
-//            Photo savePhoto = new Photo(diary, filePath, order);
-//            if (order == 0) {
-//                savePhoto.updateRepresent(true); // 첫 번째 사진을 대표 사진으로 설정
-//            }
-//            photoRepository.save(savePhoto);
-//        } else {
-//            log.warn("빈 파일 발견 - 사용자: {}, 일기 날짜: {}", userId, diary.getDate());
-//        }
-//    }
-//
-//    @Override
-//    public void saveAiPhoto(Diary diary, Long aiPhoto, String userId, Integer order) {
-//        log.info("AI 사진 저장 시작 - 사용자: {}, 일기 날짜: {}", userId, diary.getDate());
-//
-//        if (aiPhoto != null) {
-//            DiaryImageGeneration diaryImageGeneration = diaryImageGenerationService.findById(aiPhoto);
-//            String filePath = diaryImageGeneration.getFilePath();
-//
-//            Photo savePhoto = new Photo(diary, filePath, order);
-//            if (order == 0) {
-//                savePhoto.updateRepresent(true); // 첫 번째 AI 사진을 대표 사진으로 설정
-//            }
-//            photoRepository.save(savePhoto);
-//            diaryImageGenerationService.updateDiaryId(aiPhoto, diary.getId());
-//        } else {
-//            log.warn("빈 AI 사진 ID 발견 - 사용자: {}, 일기 날짜: {}", userId, diary.getDate());
-//        }
-//    }
-//
-//
+package store.piku.back.diary.service;
 
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import store.piku.back.file.FileConstants;
+import store.piku.back.file.FileUtil;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 로컬 디스크 저장소 구현 (외부 저장소 없이 실행하는 개발/통합 테스트용)
+ * 객체 키를 uploads 디렉터리 아래 경로로 그대로 사용하므로, 저장한 사진은 /api/diary/images 로 내려받을 수 있습니다.
+ * 서명이 없어 URL 유효 시간은 무시하며, 클라이언트 직접 업로드는 지원하지 않습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "storage", name = "type", havingValue = "local")
+public class LocalPhotoStorage implements PhotoStorage {
+
+    private final Path root = Paths.get(FileConstants.UPLOADS_BASE_DIR_NAME).toAbsolutePath().normalize();
+    private final FileUtil fileUtil;
+    private final StorageProperties storageProperties;
+
+    public LocalPhotoStorage(FileUtil fileUtil, StorageProperties storageProperties) {
+        this.fileUtil = fileUtil;
+        this.storageProperties = storageProperties;
+        log.info("로컬 사진 저장소 사용: {}", root);
+    }
+
+    @Override
+    public void put(String objectName, InputStream content, long contentLength, String contentType) throws IOException {
+        Path target = resolve(objectName);
+        Files.createDirectories(target.getParent());
+        // 임시 파일에 쓴 뒤 옮겨서, 쓰는 도중의 파일이 읽히지 않게 합니다.
+        Path temp = Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+        try {
+            Files.copy(content, temp, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public InputStream get(String objectName) throws IOException {
+        try {
+            return Files.newInputStream(resolve(objectName));
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public ObjectInfo head(String objectName) {
+        Path path = resolve(objectName);
+        if (!Files.isRegularFile(path)) {
+            return null;
+        }
+        try {
+            return new ObjectInfo(fileUtil.getContentType(objectName), Files.size(path));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public String presignGet(String objectName, Duration expiry) {
+        String publicUrl = storageProperties.getPublicUrl() == null ? "" : storageProperties.getPublicUrl();
+        return publicUrl + "/api/diary/images/" + objectName;
+    }
+
+    @Override
+    public boolean supportsDirectUpload() {
+        // 업로드를 받을 PUT 엔드포인트가 없습니다.
+        return false;
+    }
+
+    @Override
+    public void delete(String objectName) {
+        try {
+            Files.deleteIfExists(resolve(objectName));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public List<String> deleteAll(Collection<String> objectNames) {
+        List<String> failed = new ArrayList<>();
+        for (String objectName : objectNames) {
+            try {
+                delete(objectName);
+            } catch (RuntimeException e) {
+                log.warn("로컬 사진 삭제 실패: {}", objectName, e);
+                failed.add(objectName);
+            }
+        }
+        return failed;
+    }
+
+    // 객체 키가 저장소 디렉터리 밖을 가리키지 못하게 합니다.
+    private Path resolve(String objectName) {
+        Path path = root.resolve(objectName).normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException("유효하지 않은 객체 키입니다: " + objectName);
+        }
+        return path;
+    }
+}
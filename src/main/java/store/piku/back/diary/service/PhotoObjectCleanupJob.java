@@ -0,0 +1,91 @@
+package store.piku.back.diary.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import store.piku.back.diary.enums.PhotoVariant;
+import store.piku.back.diary.repository.PhotoObjectRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 참조하는 사진 행이 없는 공유 사진 객체(내용 해시 키)를 변형 이미지와 함께 삭제합니다.
+ * 업로드 직후 아직 일기에 연결되지 않은 객체를 지우지 않도록 마지막 갱신 후 유예 시간이 지난 것만 대상으로 합니다.
+ * 행을 먼저 삭제 중으로 표시하고, 스토리지 객체를 지운 뒤에 행을 지웁니다.
+ * 표시한 뒤 행을 지우기 전에 중단된 경우, 다음 실행에서 유예 시간이 지난 표시를 찾아 마저 지웁니다.
+ * 그 사이 같은 내용을 올리는 업로드는 표시를 보고 기존 객체를 재사용하지 않으므로(PhotoStorageService 참고) 지워질 객체를 가리키지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PhotoObjectCleanupJob {
+
+    private static final int BATCH_SIZE = 100;
+
+    private final PhotoObjectRepository photoObjectRepository;
+    private final PhotoStorageService photoStorageService;
+    private final StorageProperties storageProperties;
+
+    @Scheduled(cron = "${storage.photo-object-cleanup-cron:0 0 5 * * *}")
+    public void cleanup() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(storageProperties.getPhotoObjectGracePeriod());
+
+        // 지난 실행에서 삭제 중으로 표시만 하고 중단된 행을 먼저 마저 지웁니다.
+        int reclaimed = 0;
+        List<String> objectKeys;
+        do {
+            objectKeys = photoObjectRepository.findDeletingBefore(cutoff, PageRequest.of(0, BATCH_SIZE));
+            int removed = deleteMarked(objectKeys);
+            reclaimed += removed;
+            if (removed == 0) {
+                break;
+            }
+        } while (objectKeys.size() == BATCH_SIZE);
+
+        // 표시된 행은 다음 조회에서 빠지므로, 표시에 실패한 행이 있어도 같은 행을 다시 읽지 않습니다.
+        int deleted = 0;
+        do {
+            objectKeys = photoObjectRepository.findUnreferencedBefore(cutoff, PageRequest.of(0, BATCH_SIZE));
+            List<String> marked = new ArrayList<>();
+            for (String objectKey : objectKeys) {
+                if (photoObjectRepository.markDeleting(objectKey, cutoff, LocalDateTime.now()) > 0) {
+                    marked.add(objectKey);
+                }
+            }
+            deleted += deleteMarked(marked);
+        } while (objectKeys.size() == BATCH_SIZE);
+
+        if (deleted > 0 || reclaimed > 0) {
+            log.info("참조가 없는 공유 사진 {}개 삭제 (중단된 삭제 {}개 포함)", deleted + reclaimed, reclaimed);
+        }
+    }
+
+    /**
+     * 삭제 중으로 표시된 객체를 변형 이미지와 함께 스토리지에서 지운 뒤 행을 지웁니다.
+     *
+     * @return 지운 행 수
+     */
+    private int deleteMarked(List<String> objectKeys) {
+        if (objectKeys.isEmpty()) {
+            return 0;
+        }
+        List<String> objectNames = new ArrayList<>();
+        for (String objectKey : objectKeys) {
+            objectNames.add(objectKey);
+            for (PhotoVariant variant : PhotoVariant.values()) {
+                objectNames.add(variant.keyFor(objectKey));
+            }
+        }
+        photoStorageService.deleteObjects(objectNames);
+
+        int deleted = 0;
+        for (String objectKey : objectKeys) {
+            deleted += photoObjectRepository.deleteMarked(objectKey);
+        }
+        return deleted;
+    }
+}
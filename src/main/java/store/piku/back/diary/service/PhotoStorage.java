@@ -1,14 +1,80 @@
-//package store.piku.back.diary.service;
-//
-//
-//import org.springframework.web.multipart.MultipartFile;
-//import store.piku.back.diary.entity.Diary;
-//
-//import java.io.IOException;
-//import java.util.List;
-//
-//
-//public interface PhotoStorage {
-//    void savePhoto(Diary diary, MultipartFile photo, String userId, Integer order) throws IOException;
-//    void saveAiPhoto(Diary diary, Long aiPhoto, String userId, Integer order);
-//}
+package store.piku.back.diary.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 사진 객체 저장소 SPI
+ * storage.type 값(s3, local, memory)에 따라 시작 시 구현체 하나만 등록되며, PhotoStorageService 가 이를 통해 객체를 다룹니다.
+ * 객체 키는 "userId/파일명" 또는 "sha256/해시.확장자" 형식입니다.
+ */
+public interface PhotoStorage {
+
+    /**
+     * 객체를 저장합니다. 같은 키가 있으면 덮어씁니다. 스트림은 호출자가 닫습니다.
+     */
+    void put(String objectName, InputStream content, long contentLength, String contentType) throws IOException;
+
+    /**
+     * 객체를 비동기로 저장합니다. 반환된 future 가 끝날 때까지 스트림을 닫으면 안 되며, 끝난 뒤 호출자가 닫습니다.
+     * 기본 구현은 호출한 스레드에서 put 을 실행한 뒤 완료된 future 를 반환합니다.
+     *
+     * @param contentLength 스트림에서 읽을 정확한 바이트 수
+     */
+    default CompletableFuture<Void> putAsync(String objectName, InputStream content, long contentLength, String contentType) {
+        try {
+            put(objectName, content, contentLength, contentType);
+            return CompletableFuture.completedFuture(null);
+        } catch (IOException | RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 객체 내용을 스트림으로 엽니다. 호출자가 닫아야 합니다.
+     *
+     * @return 객체 내용 스트림, 객체가 없으면 null
+     */
+    InputStream get(String objectName) throws IOException;
+
+    /**
+     * 객체의 메타데이터를 조회합니다.
+     *
+     * @return 객체 정보, 객체가 없으면 null
+     */
+    ObjectInfo head(String objectName);
+
+    /**
+     * 객체를 내려받을 수 있는 URL을 만듭니다. 서명이 없는 저장소는 expiry 를 무시합니다.
+     */
+    String presignGet(String objectName, Duration expiry);
+
+    /**
+     * 클라이언트가 presignPut 으로 만든 URL로 객체를 직접 올릴 수 있는지 여부.
+     */
+    boolean supportsDirectUpload();
+
+    /**
+     * 클라이언트가 객체를 직접 올릴 수 있는 URL을 만듭니다.
+     * supportsDirectUpload 가 true 인 저장소에서만 호출하며, 직접 업로드를 지원하지 않는 저장소는 구현하지 않습니다.
+     */
+    default String presignPut(String objectName, String contentType, Duration expiry) {
+        throw new IllegalStateException(getClass().getSimpleName() + " 는 직접 업로드를 지원하지 않습니다.");
+    }
+
+    void delete(String objectName);
+
+    /**
+     * 여러 객체를 한 번에 삭제합니다. 없는 객체는 성공으로 봅니다.
+     *
+     * @return 삭제에 실패한 객체 키 목록
+     */
+    List<String> deleteAll(Collection<String> objectNames);
+
+    record ObjectInfo(String contentType, long contentLength) {
+    }
+}
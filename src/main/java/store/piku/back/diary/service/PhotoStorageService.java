@@ -1,194 +1,466 @@
 package store.piku.back.diary.service;
 
-import io.minio.GetPresignedObjectUrlArgs;
-import io.minio.MinioClient;
-import io.minio.http.Method;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
-import software.amazon.awssdk.core.sync.RequestBody;
-import software.amazon.awssdk.regions.Region;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.*;
-import software.amazon.awssdk.services.s3.presigner.S3Presigner;
-import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
-import store.piku.back.diary.entity.Diary;
-import store.piku.back.diary.entity.Photo;
-import store.piku.back.diary.repository.PhotoRepository;
+import store.piku.back.diary.dto.PhotoUploadUrlResponseDTO;
+import store.piku.back.diary.entity.PhotoUploadGrant;
+import store.piku.back.diary.exception.DirectUploadNotSupportedException;
+import store.piku.back.diary.repository.PhotoObjectRepository;
+import store.piku.back.diary.repository.PhotoUploadGrantRepository;
 import store.piku.back.file.FileUtil;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
-import java.util.Arrays;
-import java.util.concurrent.TimeUnit;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 public class PhotoStorageService {
 
-    private final S3Client s3Client;
+    // 직접 업로드용 PUT URL 유효 시간
+    private static final Duration UPLOAD_URL_EXPIRY = Duration.ofMinutes(10);
+
+    // 내용 해시로 저장하는 공유 객체의 키 접두사
+    private static final String CONTENT_ADDRESSED_PREFIX = "sha256/";
+
+    private final PhotoStorage photoStorage;
     private final PhotoUtil photoUtil;
-    private final PhotoRepository photoRepository;
+    private final PhotoUploadExecutor photoUploadExecutor;
     private final StorageProperties storageProperties;
     private final FileUtil fileUtil;
-    private final Environment environment;
-
-    public PhotoStorageService(S3Client s3Client, PhotoUtil photoUtil, PhotoRepository photoRepository,
-                               StorageProperties storageProperties, FileUtil fileUtil, Environment environment) {
-        this.s3Client = s3Client;
+    private final PhotoObjectRepository photoObjectRepository;
+    private final PhotoUploadGrantRepository photoUploadGrantRepository;
+    private final PhotoUrlCache photoUrlCache;
+
+    public PhotoStorageService(PhotoStorage photoStorage, PhotoUtil photoUtil, PhotoUploadExecutor photoUploadExecutor,
+                               StorageProperties storageProperties, FileUtil fileUtil,
+                               PhotoObjectRepository photoObjectRepository,
+                               PhotoUploadGrantRepository photoUploadGrantRepository, PhotoUrlCache photoUrlCache) {
+        this.photoStorage = photoStorage;
         this.photoUtil = photoUtil;
-        this.photoRepository = photoRepository;
+        this.photoUploadExecutor = photoUploadExecutor;
         this.storageProperties = storageProperties;
         this.fileUtil = fileUtil;
-        this.environment = environment;
+        this.photoObjectRepository = photoObjectRepository;
+        this.photoUploadGrantRepository = photoUploadGrantRepository;
+        this.photoUrlCache = photoUrlCache;
     }
 
-    public void savePhoto(Diary diary, MultipartFile photo, String userId, Integer order) throws IOException {
-        log.info("사진 S3 저장 시작 - 사용자: {}, 일기 날짜: {}", userId, diary.getDate());
-        String objectName = null;
-
-        try {
-            if (!photo.isEmpty()) {
-                String originalFilename = photo.getOriginalFilename();
-                String filename = photoUtil.generateFileName(diary.getDate(), originalFilename);
-                objectName = userId + "/" + filename;
-
-                ensureBucketExists(storageProperties.getBucket());
+    /**
+     * 일기 사진들을 동시에 업로드하고 완료를 future 로 알립니다.
+     * 스트림 열기와 해시 계산은 업로드 전용 스레드 풀에서 하고, 전송은 저장소의 비동기 업로드(큰 사진은 멀티파트)로 진행합니다.
+     * 호출자는 완료를 기다리는 동안 DB 조회 등 다른 작업을 할 수 있으며, DB 트랜잭션 전에 결과를 받아야 합니다.
+     * 하나라도 실패하면 이미 올라간 객체를 지운 뒤 예외로 완료됩니다.
+     *
+     * @param photos 업로드할 사진 목록
+     * @param userId 작성자 ID (객체 키 앞부분)
+     * @param diaryDate 일기 날짜 (파일명 생성에 사용)
+     * @return 입력 순서와 같은 객체 키 목록 (빈 파일은 null)
+     */
+    public CompletableFuture<List<String>> uploadPhotosAsync(List<MultipartFile> photos, String userId, LocalDate diaryDate) {
+        if (photos.isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+        log.info("사진 저장 시작 - 사용자: {}, 일기 날짜: {}, 개수: {}", userId, diaryDate, photos.size());
+
+        List<CompletableFuture<String>> uploads = new ArrayList<>(photos.size());
+        for (MultipartFile photo : photos) {
+            if (photo.isEmpty()) {
+                log.warn("빈 파일 발견 - 사용자: {}, 일기 날짜: {}", userId, diaryDate);
+                uploads.add(CompletableFuture.completedFuture(null));
+                continue;
+            }
+            String objectName = userId + "/" + photoUtil.generateFileName(diaryDate, photo.getOriginalFilename());
+            if (storageProperties.isContentAddressed()) {
+                uploads.add(photoUploadExecutor.supply(() -> putContentAddressedAsync(photo, userId, objectName))
+                        .thenCompose(Function.identity()));
+                continue;
+            }
+            uploads.add(photoUploadExecutor.supply(() -> putPhotoAsync(photo, objectName)).thenCompose(Function.identity()));
+        }
 
-                PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                        .bucket(storageProperties.getBucket())
-                        .key(objectName)
-                        .contentType(photo.getContentType())
-                        .contentLength(photo.getSize())
-                        .build();
+        // allOf 는 모든 업로드가 끝난 뒤에 완료되므로 실패 시에도 진행 중인 업로드가 남지 않습니다.
+        return CompletableFuture.allOf(uploads.toArray(CompletableFuture[]::new))
+                .handleAsync((ignored, e) -> {
+                    if (e == null) {
+                        return uploads.stream().map(CompletableFuture::join).toList();
+                    }
+                    discardUploads(uploads.stream()
+                            .filter(upload -> !upload.isCompletedExceptionally())
+                            .map(CompletableFuture::join)
+                            .toList());
+                    Throwable cause = unwrap(e);
+                    log.warn("Exception occured while saving photo : {}", cause.getMessage(), cause);
+                    throw new RuntimeException("사진 저장 중 오류 발생", cause);
+                }, photoUploadExecutor::execute);
+    }
 
-                s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(photo.getInputStream(), photo.getSize()));
+    /**
+     * 일기 사진들을 업로드하고 끝날 때까지 기다립니다. DB 트랜잭션 밖에서 호출합니다.
+     *
+     * @return 입력 순서와 같은 객체 키 목록 (빈 파일은 null)
+     * @see #uploadPhotosAsync(List, String, LocalDate)
+     */
+    public List<String> uploadPhotos(List<MultipartFile> photos, String userId, LocalDate diaryDate) {
+        return await(uploadPhotosAsync(photos, userId, diaryDate));
+    }
 
-                Photo savePhoto = new Photo(diary, objectName, order);
-                if (order == 0) {
-                    savePhoto.updateRepresent(true);
-                }
-                photoRepository.save(savePhoto);
+    /**
+     * 업로드한 객체들을 한 번의 요청으로 삭제합니다. (일기 저장 실패 시 보상 처리용)
+     * 삭제 실패는 로그만 남기고 호출자에게 전파하지 않습니다.
+     *
+     * @param objectNames 삭제할 객체 키 목록
+     */
+    public void deleteObjects(Collection<String> objectNames) {
+        if (objectNames.isEmpty()) {
+            return;
+        }
+        photoUrlCache.invalidateAll(objectNames);
+        try {
+            List<String> failed = photoStorage.deleteAll(objectNames);
+            if (!failed.isEmpty()) {
+                log.error("업로드된 사진 일부 삭제 실패 - 객체: {}", failed);
             } else {
-                log.warn("빈 파일 발견 - 사용자: {}, 일기 날짜: {}", userId, diary.getDate());
+                log.info("업로드된 사진 삭제 완료 - 개수: {}", objectNames.size());
             }
         } catch (Exception e) {
-            log.warn("Exception occured while saving photo : {}", e.getMessage(), e);
-            throw new RuntimeException("S3 파일 저장 중 오류 발생", e);
+            log.error("업로드된 사진 삭제 실패 - 객체: {}", objectNames, e);
         }
     }
 
-    public String uploadToStorage(MultipartFile image, String userId, String objectKey){
-        try {
-            ensureBucketExists(storageProperties.getBucket());
+    /**
+     * 저장되지 못한 업로드 객체를 지웁니다.
+     * 내용 해시 키의 공유 객체는 다른 일기가 참조할 수 있으므로 지우지 않고 정리 작업(PhotoObjectCleanupJob)에 맡깁니다.
+     */
+    public void discardUploads(Collection<String> objectNames) {
+        deleteObjects(objectNames.stream()
+                .filter(Objects::nonNull)
+                .filter(objectName -> !isContentAddressed(objectName))
+                .toList());
+    }
 
-            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                    .bucket(storageProperties.getBucket())
-                    .key(objectKey)
-                    .contentType(image.getContentType())
-                    .contentLength(image.getSize())
-                    .build();
+    /**
+     * 사진 행이 공유 객체를 가리키게 될 때 참조 수를 늘립니다. 사진 행 저장과 같은 트랜잭션에서 호출합니다.
+     * 지금은 사진 행을 지우는 기능이 없어 참조 수를 줄이는 곳이 없습니다. 사진 삭제를 추가하면 같은 트랜잭션에서 참조 수를 줄여야 합니다.
+     */
+    public void acquireObjects(Collection<String> objectNames) {
+        addReferences(objectNames, 1);
+    }
 
-            s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(image.getInputStream(), image.getSize()));
+    public static boolean isContentAddressed(String objectName) {
+        return objectName.startsWith(CONTENT_ADDRESSED_PREFIX);
+    }
 
-            return objectKey;
+    private void addReferences(Collection<String> objectNames, int sign) {
+        Map<String, Long> counts = objectNames.stream()
+                .filter(Objects::nonNull)
+                .filter(PhotoStorageService::isContentAddressed)
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        LocalDateTime now = LocalDateTime.now();
+        counts.forEach((objectName, count) -> photoObjectRepository.addReferences(objectName, sign * count.intValue(), now));
+    }
+
+    /**
+     * 사용자 ID 와 내용의 SHA-256 해시를 키로 저장합니다. 같은 사용자가 같은 내용을 이미 올렸으면 업로드를 건너뜁니다.
+     * 중복 제거를 사용자 안으로 한정해, 다른 사용자의 사진 존재 여부가 업로드 시간이나 객체 키로 드러나지 않게 합니다.
+     * 정리 작업이 업로드 도중의 객체를 지우지 않도록 업로드 전에 참조 테이블에 먼저 등록하고(유예 시간이 새로 시작됨),
+     * 등록 시점에 이미 정리 작업이 지우는 중이었다면 기존 객체 대신 일반 키(fallbackObjectName)로 올립니다.
+     */
+    private CompletableFuture<String> putContentAddressedAsync(MultipartFile photo, String userId, String fallbackObjectName) {
+        String objectName = CONTENT_ADDRESSED_PREFIX + sha256(userId, photo) + extension(photo.getOriginalFilename());
+        photoObjectRepository.register(objectName, LocalDateTime.now());
+        if (photoObjectRepository.existsByObjectKeyAndDeletingAtIsNotNull(objectName)) {
+            log.info("정리 중인 공유 사진이라 일반 키로 업로드합니다: {}", objectName);
+            return putPhotoAsync(photo, fallbackObjectName);
+        }
+        if (photoStorage.head(objectName) != null) {
+            log.debug("같은 내용의 사진이 이미 있어 업로드를 건너뜁니다: {}", objectName);
+            return CompletableFuture.completedFuture(objectName);
+        }
+        return putPhotoAsync(photo, objectName);
+    }
+
+    private String sha256(String userId, MultipartFile photo) {
+        try (DigestInputStream in = new DigestInputStream(photo.getInputStream(), MessageDigest.getInstance("SHA-256"))) {
+            in.getMessageDigest().update((userId + "\n").getBytes(StandardCharsets.UTF_8));
+            in.transferTo(OutputStream.nullOutputStream());
+            return HexFormat.of().formatHex(in.getMessageDigest().digest());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String extension(String originalFilename) {
+        int dotIndex = originalFilename == null ? -1 : originalFilename.lastIndexOf('.');
+        return dotIndex > 0 ? originalFilename.substring(dotIndex).toLowerCase(Locale.ROOT) : "";
+    }
+
+    /**
+     * 객체 내용을 스트림으로 엽니다. 호출자가 닫아야 합니다.
+     *
+     * @return 객체 내용 스트림, 객체가 없으면 null
+     */
+    public InputStream openObject(String objectName) {
+        try {
+            return photoStorage.get(objectName);
         } catch (IOException e) {
-            throw new RuntimeException("이미지 업로드 중 오류 발생", e);
+            throw new UncheckedIOException(e);
         }
     }
 
+    private CompletableFuture<String> putPhotoAsync(MultipartFile photo, String objectName) {
+        InputStream inputStream;
+        try {
+            inputStream = photo.getInputStream();
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(new UncheckedIOException(e));
+        }
+        return putAsync(objectName, inputStream, photo.getSize(), photo.getContentType())
+                .thenApply(ignored -> objectName);
+    }
 
+    /**
+     * 이미지를 지정한 객체 키로 비동기 업로드합니다. 완료를 기다리는 동안 호출자는 다른 작업을 할 수 있습니다.
+     *
+     * @return 업로드가 끝나면 객체 키로 완료되는 future
+     */
+    public CompletableFuture<String> uploadToStorageAsync(MultipartFile image, String objectKey) {
+        return photoUploadExecutor.supply(() -> putPhotoAsync(image, objectKey))
+                .thenCompose(Function.identity())
+                .exceptionally(e -> {
+                    throw new RuntimeException("이미지 업로드 중 오류 발생", unwrap(e));
+                });
+    }
 
+    public String uploadToStorage(MultipartFile image, String objectKey) {
+        return await(uploadToStorageAsync(image, objectKey));
+    }
 
-    private void ensureBucketExists(String bucketName) {
+    /**
+     * 저장소의 비동기 업로드를 시작하고, 업로드가 끝나면(실패 포함) 스트림을 닫습니다.
+     */
+    private CompletableFuture<Void> putAsync(String objectName, InputStream content, long contentLength, String contentType) {
+        CompletableFuture<Void> upload;
         try {
-            HeadBucketRequest headBucketRequest = HeadBucketRequest.builder()
-                    .bucket(bucketName)
-                    .build();
-            s3Client.headBucket(headBucketRequest);
-        } catch (S3Exception e) {
-            if (e.statusCode() == 404) {
-                log.warn("버킷이 존재하지 않아 새로 생성합니다: {}", bucketName);
-                CreateBucketRequest createBucketRequest = CreateBucketRequest.builder()
-                        .bucket(bucketName)
-                        .build();
-                s3Client.createBucket(createBucketRequest);
-            } else {
-                log.error("버킷 확인 중 오류 발생: {} - {}", e.statusCode(), e.awsErrorDetails().errorMessage());
-                throw e;
-            }
+            upload = photoStorage.putAsync(objectName, content, contentLength, contentType);
+        } catch (RuntimeException e) {
+            upload = CompletableFuture.failedFuture(e);
         }
+        return upload.whenComplete((ignored, e) -> {
+            try {
+                content.close();
+            } catch (IOException closeException) {
+                log.warn("업로드 스트림을 닫지 못했습니다. Object: {}", objectName, closeException);
+            }
+        });
     }
 
-    // 개발 환경용
-    public String getMinIOStoragePhotoUrl(String objectName) throws Exception {
-        // MinIO 클라이언트 생성
-        MinioClient minioClient = MinioClient.builder()
-                .endpoint(storageProperties.getEndpoint()) // MinIO 주소
-                .credentials(storageProperties.getAccessKey(), storageProperties.getSecretKey()) // 접속 키
-                .build();
+    // future 의 결과를 기다리고, 작업에서 던진 예외를 CompletionException 없이 그대로 다시 던집니다.
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
 
-        // Presigned URL 생성 (예: 30분 동안 유효)
-        String url = minioClient.getPresignedObjectUrl(
-                GetPresignedObjectUrlArgs.builder()
-                        .method(Method.GET) // 다운로드용 presigned URL
-                        .bucket(storageProperties.getBucket()) // 버킷 이름
-                        .object(objectName) // 오브젝트 이름
-                        .expiry(30, TimeUnit.MINUTES) // 유효 시간
-                        .build()
-        );
-        return url;
+    private static Throwable unwrap(Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
     }
 
     /**
-     * S3 호환 스토리지의 객체에 대한 미리 서명된 URL을 생성합니다.
+     * 사진 저장소 객체에 대한 미리 서명된 URL을 반환합니다.
      *
      * @param objectName 스토리지 내 객체의 키 (파일 이름)
      * @return 생성된 미리 서명된 URL 문자열, 실패 시 null
      */
     public String getPhotoUrl(String objectName) {
+        return getPhotoUrls(Collections.singletonList(objectName)).get(0);
+    }
+
+    /**
+     * 여러 객체의 미리 서명된 URL을 반환합니다.
+     * 캐시에 있는 URL은 그대로 쓰고, 없는 객체만 재사용하는 서명 클라이언트로 서명한 뒤 캐시에 넣습니다.
+     *
+     * @param objectNames 스토리지 내 객체 키 목록
+     * @return 입력 순서와 같은 URL 목록 (키가 없거나 생성에 실패한 항목은 null)
+     */
+    public List<String> getPhotoUrls(List<String> objectNames) {
+        if (objectNames.isEmpty()) {
+            return List.of();
+        }
 
-        boolean isProd = Arrays.asList(environment.getActiveProfiles()).contains("prod");
-        if (!isProd) {
-            try{
-                return getMinIOStoragePhotoUrl(objectName);
-            }catch (Exception e){
-                log.error("MinIO에서 미리 서명된 URL 생성 실패: {}", e.getMessage(), e);
-                return null;
+        List<String> keys = objectNames.stream().filter(Objects::nonNull).distinct().toList();
+        Map<String, String> urls = new HashMap<>(photoUrlCache.getAllPresent(keys));
+        List<String> misses = keys.stream().filter(key -> !urls.containsKey(key)).toList();
+        if (!misses.isEmpty()) {
+            Map<String, String> signed = new HashMap<>();
+            for (String objectName : misses) {
+                String url = presignGet(objectName);
+                if (url != null) {
+                    signed.put(objectName, url);
+                }
             }
+            photoUrlCache.putAll(signed);
+            urls.putAll(signed);
+        }
+
+        List<String> result = new ArrayList<>(objectNames.size());
+        for (String objectName : objectNames) {
+            result.add(objectName == null ? null : urls.get(objectName));
+        }
+        return result;
+    }
+
+    /**
+     * 클라이언트가 스토리지에 사진을 직접 올릴 수 있도록 미리 서명된 PUT URL을 발급합니다.
+     * 사진 바이트가 애플리케이션 서버를 거치지 않으며, 발급한 객체 키는 일기 작성 시 그대로 돌려받습니다.
+     * 발급한 키는 사용자별로 기록해 한 번만 사용할 수 있게 하고, 사용되지 않으면 정리 작업(PhotoUploadCleanupJob)이 지웁니다.
+     *
+     * @param filenames 업로드할 사진의 원본 파일명 목록
+     * @param userId 작성자 ID (객체 키 앞부분)
+     * @param diaryDate 일기 날짜 (파일명 생성에 사용)
+     * @return 입력 순서와 같은 객체 키와 업로드 URL 목록
+     * @throws DirectUploadNotSupportedException 저장소가 직접 업로드를 지원하지 않는 경우
+     */
+    public List<PhotoUploadUrlResponseDTO> createUploadUrls(List<String> filenames, String userId, LocalDate diaryDate) {
+        if (!photoStorage.supportsDirectUpload()) {
+            throw new DirectUploadNotSupportedException();
         }
+        List<PhotoUploadUrlResponseDTO> uploadUrls = new ArrayList<>(filenames.size());
+        List<PhotoUploadGrant> grants = new ArrayList<>(filenames.size());
+        LocalDateTime now = LocalDateTime.now();
+        for (String filename : filenames) {
+            String objectName = userId + "/" + photoUtil.generateFileName(diaryDate, filename);
+            String contentType = fileUtil.getContentType(filename);
+            String url = photoStorage.presignPut(objectName, contentType, UPLOAD_URL_EXPIRY);
+            uploadUrls.add(new PhotoUploadUrlResponseDTO(objectName, url, contentType));
+            grants.add(new PhotoUploadGrant(objectName, userId, now));
+        }
+        photoUploadGrantRepository.saveAll(grants);
+        return uploadUrls;
+    }
 
-        // S3Presigner 빌더를 생성하고 기본 설정을 구성합니다.
-        S3Presigner.Builder presignerBuilder = S3Presigner.builder()
-                .region(Region.of(storageProperties.getRegion()))
-                // ec2에 직접 할당
-                // .credentialsProvider(StaticCredentialsProvider.create(
-                //         AwsBasicCredentials.create(
-                //                 storageProperties.getAccessKey(),
-                //                 storageProperties.getSecretKey()
-                //         )))
-                ;
+    /**
+     * 직접 업로드한 사진의 발급 기록을 사용 처리(삭제)합니다. 사진 행 저장과 같은 트랜잭션에서 호출하므로,
+     * 저장이 실패하면 기록이 되살아나 같은 키로 다시 시도할 수 있습니다.
+     *
+     * @throws IllegalArgumentException 이미 사용했거나 정리되어 발급 기록이 없는 키가 있는 경우
+     */
+    public void consumeUploadGrants(Collection<String> objectKeys, String userId) {
+        Set<String> distinctKeys = new HashSet<>(objectKeys);
+        if (distinctKeys.isEmpty()) {
+            return;
+        }
+        int consumed = photoUploadGrantRepository.deleteByUserIdAndObjectKeyIn(userId, distinctKeys);
+        if (consumed != distinctKeys.size()) {
+            throw new IllegalArgumentException("이미 사용했거나 만료된 사진 객체 키가 있습니다.");
+        }
+    }
 
-        try (S3Presigner presigner = presignerBuilder.build()) {
-            // 1. URL을 생성할 객체에 대한 요청을 만듭니다.
-            GetObjectRequest getObjectRequest = GetObjectRequest.builder()
-                    .bucket(storageProperties.getBucket())
-                    .key(objectName)
-                    .build();
+    /**
+     * 클라이언트가 직접 업로드한 사진을 HEAD 요청으로 확인합니다.
+     * 작성자 경로의 객체인지, 실제로 올라가 있는지, 이미지 타입과 크기 제한을 지키는지 검사합니다.
+     *
+     * @param objectKeys 업로드 URL 발급 시 받은 객체 키 목록
+     * @param userId 작성자 ID
+     * @throws IllegalArgumentException 확인에 실패한 사진이 있는 경우
+     */
+    public void verifyUploadedPhotos(List<String> objectKeys, String userId) {
+        Map<String, String> errors = checkUploadedPhotos(objectKeys, userId);
+        if (!errors.isEmpty()) {
+            throw new IllegalArgumentException(errors.values().iterator().next());
+        }
+    }
 
-            // 2. 미리 서명된 URL의 유효 기간(12시간)을 포함한 요청을 만듭니다.
-            GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
-                    .signatureDuration(Duration.ofHours(12))
-                    .getObjectRequest(getObjectRequest)
-                    .build();
+    /**
+     * 직접 업로드한 사진들을 병렬로 확인하고, 확인에 실패한 객체 키별 사유를 반환합니다.
+     *
+     * @return 실패한 객체 키와 사유 (모두 통과하면 빈 맵)
+     */
+    public Map<String, String> checkUploadedPhotos(Collection<String> objectKeys, String userId) {
+        Map<String, String> errors = new LinkedHashMap<>();
+        Set<String> granted = objectKeys.isEmpty() ? Set.of()
+                : new HashSet<>(photoUploadGrantRepository.findObjectKeysByUserIdAndObjectKeyIn(userId, objectKeys));
+        List<String> targets = new ArrayList<>(objectKeys.size());
+        for (String objectKey : objectKeys) {
+            if (!objectKey.startsWith(userId + "/") || objectKey.contains("..")) {
+                errors.put(objectKey, "유효하지 않은 사진 객체 키입니다: " + objectKey);
+            } else if (!granted.contains(objectKey)) {
+                errors.put(objectKey, "발급되지 않았거나 이미 사용한 사진 객체 키입니다: " + objectKey);
+            } else {
+                targets.add(objectKey);
+            }
+        }
+        if (targets.isEmpty()) {
+            return errors;
+        }
 
-            // 3. 내부 엔드포인트 기준으로 미리 서명된 URL을 생성합니다.
-            String internalPresignedUrl = presigner.presignGetObject(presignRequest).url().toString();
+        List<CompletableFuture<String>> checks = targets.stream()
+                .map(objectKey -> photoUploadExecutor.supply(() -> headUploadedPhoto(objectKey)))
+                .toList();
+        try {
+            CompletableFuture.allOf(checks.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            throw new RuntimeException("업로드된 사진 확인 중 오류 발생", e.getCause());
+        }
+        for (int i = 0; i < targets.size(); i++) {
+            String error = checks.get(i).join();
+            if (error != null) {
+                errors.put(targets.get(i), error);
+            }
+        }
+        return errors;
+    }
 
-            return internalPresignedUrl;
+    // 통과하면 null, 실패하면 사유를 반환합니다.
+    private String headUploadedPhoto(String objectKey) {
+        PhotoStorage.ObjectInfo head = photoStorage.head(objectKey);
+        if (head == null) {
+            return "업로드되지 않은 사진입니다: " + objectKey;
+        }
+        if (head.contentType() == null || !head.contentType().startsWith("image/")) {
+            return "이미지가 아닌 파일입니다: " + objectKey;
+        }
+        if (head.contentLength() > storageProperties.getMaxUploadSize().toBytes()) {
+            return "사진 크기 제한을 초과했습니다: " + objectKey;
+        }
+        return null;
+    }
 
+    private String presignGet(String objectName) {
+        try {
+            return photoStorage.presignGet(objectName, storageProperties.getPresignExpiry());
         } catch (Exception e) {
             // URL 생성 중 오류 발생 시 에러 로그를 남기고 null을 반환합니다.
             log.error("미리 서명된 URL 생성에 실패했습니다. Object: {}", objectName, e);
@@ -196,8 +468,17 @@ public class PhotoStorageService {
         }
     }
 
-    public String saveAIPhoto(String base64Data, String userId, String fileExtension) {
-        String objectName = null;
+    /**
+     * Base64 로 받은 AI 이미지를 디코딩하면서 바로 업로드합니다.
+     * 전체 데이터를 바이트 배열로 디코딩하지 않고, 저장소가 읽는 만큼만 디코딩해 보냅니다.
+     *
+     * @return 업로드가 끝나면 "userId/파일명" 객체 키로 완료되는 future
+     */
+    public CompletableFuture<String> saveAIPhotoAsync(String base64Data, String userId, String fileExtension) {
+        String objectName;
+        long contentLength;
+        InputStream inputStream;
+        String contentType;
         try {
             if (base64Data == null || base64Data.trim().isEmpty()) {
                 throw new IllegalArgumentException("Base64 데이터가 비어있습니다.");
@@ -208,35 +489,30 @@ public class PhotoStorageService {
 
             // 유니크한 파일명 생성
             String fileName = fileUtil.generateUniqueFileNameWithExtension(cleanExtension);
-
-            // Base64 디코딩 후 파일 저장
-            byte[] imageBytes = fileUtil.decodeBase64(base64Data);
-            ByteArrayInputStream inputStream = new ByteArrayInputStream(imageBytes);
-
             objectName = userId + "/" + fileName;
 
-            ensureBucketExists(storageProperties.getBucket());
-
-            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                    .bucket(storageProperties.getBucket())
-                    .key(objectName)
-                    .contentType(fileUtil.getContentType(cleanExtension))
-                    .build();
-
-            s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(inputStream, imageBytes.length));
-
-            log.info("Base64 이미지 저장 완료 - 사용자: {}, 파일: {}, 크기: {} bytes", userId, fileName, imageBytes.length);
-            return objectName;
-
+            // 길이와 문자를 업로드 전에 확인해 디코딩 크기를 계산하고, 내용은 업로드하면서 디코딩
+            contentLength = fileUtil.decodedBase64Length(base64Data);
+            inputStream = fileUtil.openBase64Stream(base64Data);
+            contentType = fileUtil.getContentType(cleanExtension);
         } catch (IllegalArgumentException e) {
             log.error("Base64 디코딩 실패 - 사용자: {}, 오류: {}", userId, e.getMessage());
-            throw new RuntimeException("Base64 데이터가 올바르지 않습니다.", e);
-        } catch (Exception e) {
-            log.error("AI 이미지 저장 중 예상하지 못한 오류 발생: {}", e.getMessage(), e);
-            throw new RuntimeException("AI 이미지 저장 중 오류가 발생했습니다.", e);
+            return CompletableFuture.failedFuture(new RuntimeException("Base64 데이터가 올바르지 않습니다.", e));
         }
-    }
-
 
+        return putAsync(objectName, inputStream, contentLength, contentType)
+                .handle((ignored, e) -> {
+                    if (e != null) {
+                        Throwable cause = unwrap(e);
+                        log.error("AI 이미지 저장 중 예상하지 못한 오류 발생: {}", cause.getMessage(), cause);
+                        throw new RuntimeException("AI 이미지 저장 중 오류가 발생했습니다.", cause);
+                    }
+                    log.info("Base64 이미지 저장 완료 - 사용자: {}, 객체: {}, 크기: {} bytes", userId, objectName, contentLength);
+                    return objectName;
+                });
+    }
 
+    public String saveAIPhoto(String base64Data, String userId, String fileExtension) {
+        return await(saveAIPhotoAsync(base64Data, userId, fileExtension));
+    }
 }
\ No newline at end of file
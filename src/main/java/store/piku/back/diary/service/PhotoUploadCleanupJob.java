@@ -0,0 +1,52 @@
+package store.piku.back.diary.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import store.piku.back.diary.repository.PhotoUploadGrantRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 직접 업로드용으로 발급했지만 유예 시간 안에 일기에 사용되지 않은 객체 키와 그 스토리지 객체를 삭제합니다.
+ * 올리기만 하고 일기를 쓰지 않았거나, 크기/형식 확인에 실패해 사용할 수 없는 객체가 대상입니다.
+ * 발급 기록을 먼저 지운 뒤 객체를 지우므로, 같은 때에 키를 사용하려던 일기 저장은 발급 기록이 없어 실패합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PhotoUploadCleanupJob {
+
+    private static final int BATCH_SIZE = 100;
+
+    private final PhotoUploadGrantRepository photoUploadGrantRepository;
+    private final PhotoStorageService photoStorageService;
+    private final StorageProperties storageProperties;
+
+    @Scheduled(cron = "${storage.photo-upload-cleanup-cron:0 30 5 * * *}")
+    public void cleanup() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(storageProperties.getUploadGrantGracePeriod());
+
+        int deleted = 0;
+        List<String> objectKeys;
+        do {
+            objectKeys = photoUploadGrantRepository.findIssuedBefore(cutoff, PageRequest.of(0, BATCH_SIZE));
+            List<String> objectNames = new ArrayList<>();
+            for (String objectKey : objectKeys) {
+                if (photoUploadGrantRepository.deleteIfIssuedBefore(objectKey, cutoff) > 0) {
+                    objectNames.add(objectKey);
+                }
+            }
+            photoStorageService.deleteObjects(objectNames);
+            deleted += objectNames.size();
+        } while (objectKeys.size() == BATCH_SIZE);
+
+        if (deleted > 0) {
+            log.info("사용되지 않은 직접 업로드 사진 {}개 삭제", deleted);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package store.piku.back.diary.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 사진 업로드 전용 스레드 풀입니다.
+ * 스레드 수와 대기열 크기를 제한하고, 대기열이 가득 차면 요청 스레드에서 직접 업로드합니다. (CallerRunsPolicy)
+ */
+@Slf4j
+@Component
+public class PhotoUploadExecutor {
+
+    private final ThreadPoolExecutor executor;
+
+    public PhotoUploadExecutor(StorageProperties storageProperties) {
+        int threads = storageProperties.getUploadThreads();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(storageProperties.getUploadQueueCapacity()),
+                threadFactory(),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    public <T> CompletableFuture<T> supply(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, executor);
+    }
+
+    /**
+     * 비동기 업로드의 후속 처리(실패 시 보상 삭제 등)를 이 풀에서 실행합니다.
+     * 저장소 클라이언트의 응답 스레드에서 블로킹 작업을 하지 않도록 handleAsync 등의 실행기로 넘깁니다.
+     */
+    public void execute(Runnable task) {
+        executor.execute(task);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("사진 업로드 스레드 풀이 제한 시간 안에 종료되지 않았습니다. 남은 작업: {}", executor.getQueue().size());
+            executor.shutdownNow();
+        }
+    }
+
+    private static ThreadFactory threadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "photo-upload-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
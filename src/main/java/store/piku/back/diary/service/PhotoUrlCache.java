@@ -0,0 +1,66 @@
+package store.piku.back.diary.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 객체 키별로 미리 서명된 사진 조회 URL을 인스턴스 메모리에 보관합니다.
+ * 항목은 서명 유효 시간보다 먼저 만료되므로, 캐시에서 꺼낸 URL은 항상 충분히 남은 유효 시간을 가집니다.
+ * 적중률은 photo.url.cache 이름의 캐시 지표로 노출됩니다.
+ */
+@Slf4j
+@Component
+public class PhotoUrlCache {
+
+    private final Cache<String, String> cache;
+    private final Duration ttl;
+
+    public PhotoUrlCache(StorageProperties storageProperties, MeterRegistry meterRegistry) {
+        Duration ttl = storageProperties.getUrlCacheTtl();
+        Duration presignExpiry = storageProperties.getPresignExpiry();
+        if (ttl.compareTo(presignExpiry) >= 0) {
+            // 만료된 URL을 내주지 않도록 서명 유효 시간의 절반으로 줄입니다.
+            ttl = presignExpiry.dividedBy(2);
+            log.warn("URL 캐시 보관 시간이 서명 유효 시간({}) 이상이어서 {}로 조정합니다.", presignExpiry, ttl);
+        }
+        this.ttl = ttl;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(storageProperties.getUrlCacheMaxSize())
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "photo.url.cache");
+    }
+
+    /**
+     * 실제로 적용된 항목 보관 시간. 캐시에서 꺼낸 URL은 최소 (서명 유효 시간 - 이 값) 만큼 유효합니다.
+     */
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    /**
+     * 캐시에 있는 URL만 객체 키별로 반환합니다.
+     */
+    public Map<String, String> getAllPresent(Iterable<String> objectNames) {
+        return cache.getAllPresent(objectNames);
+    }
+
+    public void putAll(Map<String, String> urls) {
+        cache.putAll(urls);
+    }
+
+    /**
+     * 삭제된 객체의 URL을 캐시에서 지웁니다.
+     */
+    public void invalidateAll(Iterable<String> objectNames) {
+        cache.invalidateAll(objectNames);
+    }
+}
@@ -0,0 +1,100 @@
+package store.piku.back.diary.service;
+
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * 이미지 게이트웨이 경로(예: 42/card)에 만료 시각과 HMAC 서명을 붙입니다.
+ * 피드, 캘린더, 상세, 알림 응답을 만들 때 이미 조회 권한을 확인한 사진에만 서명하므로,
+ * 게이트웨이는 Authorization 헤더(img 태그는 보낼 수 없음)나 DB 조회 없이 서명만 확인하면 됩니다.
+ * 만료 시각은 한 시간 단위로 올림해, 같은 시간대에 만든 URL 은 같아서 브라우저 캐시가 유지됩니다.
+ */
+@Component
+public class PhotoUrlSigner {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    // 서명 길이 (128비트)
+    private static final int SIGNATURE_BYTES = 16;
+    private static final long EXPIRY_WINDOW_SECONDS = Duration.ofHours(1).toSeconds();
+    // 서명 키 최소 길이 (HMAC-SHA256 출력 길이인 256비트)
+    private static final int MIN_KEY_BYTES = 32;
+
+    private final SecretKeySpec key;
+    private final long expirySeconds;
+    private final Clock clock;
+    // Mac 은 스레드 안전하지 않아 스레드마다 하나씩 사용합니다.
+    private final ThreadLocal<Mac> macs;
+
+    public PhotoUrlSigner(StorageProperties storageProperties) {
+        String signingKey = storageProperties.getGatewaySigningKey();
+        if (signingKey == null || signingKey.isBlank()) {
+            throw new IllegalStateException("storage.gateway-signing-key 가 설정되지 않았습니다. STORAGE_GATEWAY_KEY 환경 변수를 설정하세요.");
+        }
+        byte[] keyBytes = signingKey.getBytes(StandardCharsets.UTF_8);
+        if (keyBytes.length < MIN_KEY_BYTES) {
+            throw new IllegalStateException("storage.gateway-signing-key 는 " + MIN_KEY_BYTES + "바이트 이상이어야 합니다.");
+        }
+        this.key = new SecretKeySpec(keyBytes, ALGORITHM);
+        this.expirySeconds = storageProperties.getGatewayUrlExpiry().toSeconds();
+        this.clock = Clock.systemUTC();
+        this.macs = ThreadLocal.withInitial(this::newMac);
+    }
+
+    /**
+     * 게이트웨이 경로에 붙일 쿼리 문자열을 만듭니다.
+     *
+     * @param photoPath 게이트웨이 경로 (PhotoVariant.pathFor 참고)
+     * @return "exp=만료시각&sig=서명" 형식의 쿼리 문자열
+     */
+    public String sign(String photoPath) {
+        long now = clock.instant().getEpochSecond();
+        long expiresAt = ((now + expirySeconds) / EXPIRY_WINDOW_SECONDS + 1) * EXPIRY_WINDOW_SECONDS;
+        return "exp=" + expiresAt + "&sig=" + signature(photoPath, expiresAt);
+    }
+
+    /**
+     * 서명이 맞고 만료되지 않았는지 확인합니다.
+     *
+     * @param photoPath 요청된 게이트웨이 경로
+     * @param expiresAt 만료 시각 (epoch 초)
+     * @param signature 요청에 담긴 서명
+     */
+    public boolean verify(String photoPath, long expiresAt, String signature) {
+        if (signature == null || expiresAt < clock.instant().getEpochSecond()) {
+            return false;
+        }
+        byte[] expected = signature(photoPath, expiresAt).getBytes(StandardCharsets.US_ASCII);
+        return MessageDigest.isEqual(expected, signature.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * 만료 시각까지 남은 시간. 이미 지났으면 0 입니다.
+     */
+    public Duration remaining(long expiresAt) {
+        return Duration.ofSeconds(Math.max(0, expiresAt - clock.instant().getEpochSecond()));
+    }
+
+    private String signature(String photoPath, long expiresAt) {
+        byte[] digest = macs.get().doFinal((photoPath + ":" + expiresAt).getBytes(StandardCharsets.UTF_8));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, SIGNATURE_BYTES));
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package store.piku.back.diary.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import store.piku.back.diary.entity.Photo;
+import store.piku.back.diary.enums.PhotoVariant;
+import store.piku.back.diary.repository.PhotoRepository;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업로드된 일기 사진의 크기별 JPEG 변형(썸네일/카드/전체)을 백그라운드에서 생성합니다.
+ * 생성이 끝난 변형은 Photo.variants 에 기록되며, 조회 시 화면에 맞는 가장 작은 변형을 사용합니다.
+ * 대기열이 가득 차거나 생성에 실패하면 원본을 그대로 사용합니다. (기존 사진도 변형이 없으면 원본을 사용하므로 따로 채우지 않습니다)
+ * 원본은 헤더의 가로/세로만 먼저 읽어 최대 픽셀 수를 넘으면 디코딩하지 않고, 가장 큰 변형보다 큰 만큼 건너뛰며(subsampling) 읽습니다.
+ */
+@Slf4j
+@Service
+public class PhotoVariantService {
+
+    // 애니메이션(gif)과 벡터(svg)는 원본을 그대로 사용합니다.
+    private static final List<String> SKIPPED_EXTENSIONS = List.of(".gif", ".svg");
+
+    private final PhotoStorage photoStorage;
+    private final PhotoRepository photoRepository;
+    private final StorageProperties storageProperties;
+    private final ThreadPoolExecutor executor;
+
+    public PhotoVariantService(PhotoStorage photoStorage, PhotoRepository photoRepository, StorageProperties storageProperties) {
+        this.photoStorage = photoStorage;
+        this.photoRepository = photoRepository;
+        this.storageProperties = storageProperties;
+
+        AtomicInteger sequence = new AtomicInteger();
+        int threads = storageProperties.getVariantThreads();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(storageProperties.getVariantQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "photo-variant-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 일기에 속한 사진들의 변형 이미지 생성을 예약합니다. 커밋 이후에 호출해야 합니다.
+     */
+    public void generateAsync(Long diaryId) {
+        try {
+            executor.execute(() -> generate(diaryId));
+        } catch (RejectedExecutionException e) {
+            log.warn("변형 이미지 생성 대기열이 가득 차 원본을 사용합니다. 일기 ID: {}, 대기 중: {}",
+                    diaryId, executor.getQueue().size());
+        }
+    }
+
+    void generate(Long diaryId) {
+        for (Photo photo : photoRepository.findByDiaryId(diaryId)) {
+            if (photo.getVariants() != 0 || isSkipped(photo.getUrl())) {
+                continue;
+            }
+            // 같은 공유 객체를 쓰는 다른 사진에 이미 변형이 있으면 그대로 사용합니다.
+            if (PhotoStorageService.isContentAddressed(photo.getUrl())) {
+                Optional<Photo> shared = photoRepository.findFirstByUrlAndVariantsNot(photo.getUrl(), 0);
+                if (shared.isPresent()) {
+                    photoRepository.updateVariants(photo.getId(), shared.get().getVariants());
+                    continue;
+                }
+            }
+            try {
+                generateVariants(photo);
+            } catch (Exception e) {
+                log.warn("변형 이미지 생성 실패 - 사진 ID: {}, 객체: {}", photo.getId(), photo.getUrl(), e);
+            }
+        }
+    }
+
+    private void generateVariants(Photo photo) throws IOException {
+        BufferedImage source;
+        try (InputStream in = photoStorage.get(photo.getUrl())) {
+            source = in == null ? null : decode(in, photo.getUrl());
+        }
+        if (source == null) {
+            log.info("디코딩할 수 없는 이미지라 변형 생성을 건너뜁니다: {}", photo.getUrl());
+            return;
+        }
+
+        // 큰 변형부터 만들어 다음 변형의 입력으로 재사용합니다.
+        PhotoVariant[] variants = PhotoVariant.values();
+        int generated = 0;
+        BufferedImage image = source;
+        for (int i = variants.length - 1; i >= 0; i--) {
+            PhotoVariant variant = variants[i];
+            image = resize(image, variant.getMaxWidth());
+            byte[] jpeg = encodeJpeg(image);
+            photoStorage.put(variant.keyFor(photo.getUrl()), new ByteArrayInputStream(jpeg), jpeg.length, "image/jpeg");
+            generated |= variant.bit();
+        }
+
+        photoRepository.updateVariants(photo.getId(), generated);
+        log.debug("변형 이미지 생성 완료 - 사진 ID: {}, 원본 크기: {}x{}", photo.getId(), source.getWidth(), source.getHeight());
+    }
+
+    /**
+     * 헤더로 크기를 확인한 뒤 가장 큰 변형에 필요한 만큼만 건너뛰며 디코딩합니다.
+     *
+     * @return 디코딩한 이미지, 읽을 수 없거나 최대 픽셀 수를 넘으면 null
+     */
+    private BufferedImage decode(InputStream in, String objectKey) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                long width = reader.getWidth(0);
+                long height = reader.getHeight(0);
+                if (width * height > storageProperties.getVariantMaxSourcePixels()) {
+                    log.warn("원본이 너무 커서 변형 생성을 건너뜁니다: {} ({}x{})", objectKey, width, height);
+                    return null;
+                }
+                ImageReadParam param = reader.getDefaultReadParam();
+                int period = (int) Math.max(1, width / PhotoVariant.FULL.getMaxWidth());
+                param.setSourceSubsampling(period, period, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 가로가 maxWidth 이하가 되도록 비율을 유지해 줄입니다. 확대하지 않으며 투명 영역은 흰색으로 채웁니다.
+     * 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 단계적으로 줄입니다.
+     */
+    private BufferedImage resize(BufferedImage image, int maxWidth) {
+        int targetWidth = Math.min(maxWidth, image.getWidth());
+        int targetHeight = Math.max(1, (int) Math.round((double) image.getHeight() * targetWidth / image.getWidth()));
+
+        BufferedImage current = image;
+        do {
+            int width = Math.max(targetWidth, current.getWidth() / 2);
+            int height = width == targetWidth ? targetHeight : Math.max(targetHeight, current.getHeight() / 2);
+            current = draw(current, width, height);
+        } while (current.getWidth() > targetWidth);
+        return current;
+    }
+
+    private BufferedImage draw(BufferedImage image, int width, int height) {
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (MemoryCacheImageOutputStream output = new MemoryCacheImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(storageProperties.getVariantJpegQuality());
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private boolean isSkipped(String objectKey) {
+        String lower = objectKey.toLowerCase(Locale.ROOT);
+        return SKIPPED_EXTENSIONS.stream().anyMatch(lower::endsWith);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,73 @@
+package store.piku.back.diary.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import store.piku.back.diary.dto.FeedCard;
+import store.piku.back.diary.dto.TimelineEntry;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 모든 사용자가 공유하는 최신 전체공개 일기 목록 (인스턴스 메모리)
+ * 전체공개 피드는 사용자마다 읽은 피드만 다르므로, 타임라인과 사용자 무관 피드 항목을 주기적으로 한 번만 만들어 두고
+ * 각 요청에서는 읽은 피드 필터와 친구 관계만 적용합니다.
+ * 새 전체공개 일기는 다음 갱신 주기에 반영됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PublicFeedHotList {
+
+    private final FeedTimelineService feedTimelineService;
+    private final FeedHydrator feedHydrator;
+    private final FeedProperties feedProperties;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 최신 전체공개 일기 타임라인 (최신순)
+     */
+    public List<TimelineEntry> getEntries() {
+        return current().entries();
+    }
+
+    /**
+     * 최신 전체공개 일기의 사용자 무관 피드 항목 (일기 ID 별)
+     */
+    public Map<Long, FeedCard> getCards() {
+        return current().cards();
+    }
+
+    @Scheduled(fixedDelayString = "#{@feedProperties.publicHotListRefreshInterval.toMillis()}")
+    public synchronized void refresh() {
+        try {
+            List<TimelineEntry> entries = feedTimelineService.getPublicTimeline(feedProperties.getPublicHotListSize());
+            Map<Long, FeedCard> cards = feedHydrator.loadBaseCards(entries.stream().map(TimelineEntry::diaryId).toList())
+                    .stream()
+                    .collect(Collectors.toMap(FeedCard::diaryId, Function.identity()));
+            snapshot = new Snapshot(List.copyOf(entries), Map.copyOf(cards));
+            log.debug("전체공개 피드 목록 갱신: {}건", entries.size());
+        } catch (RuntimeException e) {
+            // 갱신에 실패하면 이전 목록을 계속 사용합니다.
+            log.error("전체공개 피드 목록 갱신 실패", e);
+        }
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            refresh();
+            current = snapshot;
+        }
+        return current != null ? current : Snapshot.EMPTY;
+    }
+
+    private record Snapshot(List<TimelineEntry> entries, Map<Long, FeedCard> cards) {
+        private static final Snapshot EMPTY = new Snapshot(List.of(), Map.of());
+    }
+}
@@ -0,0 +1,211 @@
+package store.piku.back.diary.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * S3 호환 저장소 구현 (운영: AWS S3, 개발: MinIO)
+ * 클라이언트와 서명기는 S3Config 에서 프로필별로 만든 빈을 재사용합니다.
+ * 비동기 저장은 S3AsyncClient 를 사용하며, storage.multipart-threshold 이상인 객체는 멀티파트로 나누어 파트를 병렬 업로드합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "storage", name = "type", havingValue = "s3", matchIfMissing = true)
+public class S3PhotoStorage implements PhotoStorage {
+
+    // DeleteObjects 한 번에 보낼 수 있는 최대 키 수
+    private static final int DELETE_BATCH_SIZE = 1000;
+
+    private final S3Client s3Client;
+    private final S3AsyncClient s3AsyncClient;
+    private final S3Presigner s3Presigner;
+    private final StorageProperties storageProperties;
+    // 비동기 업로드의 입력 스트림을 읽는 스레드 (SDK 응답 스레드가 블로킹 읽기를 하지 않도록 분리)
+    private final ExecutorService streamReader;
+
+    // 버킷 확인은 한 번 성공하면 다시 하지 않습니다.
+    private volatile boolean bucketVerified;
+
+    public S3PhotoStorage(S3Client s3Client, S3AsyncClient s3AsyncClient, S3Presigner s3Presigner,
+                          StorageProperties storageProperties) {
+        this.s3Client = s3Client;
+        this.s3AsyncClient = s3AsyncClient;
+        this.s3Presigner = s3Presigner;
+        this.storageProperties = storageProperties;
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.streamReader = Executors.newFixedThreadPool(storageProperties.getUploadThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "photo-upload-stream-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        streamReader.shutdown();
+        if (!streamReader.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("사진 업로드 스트림 스레드가 제한 시간 안에 종료되지 않았습니다.");
+            streamReader.shutdownNow();
+        }
+    }
+
+    @Override
+    public void put(String objectName, InputStream content, long contentLength, String contentType) {
+        ensureBucketExists();
+        s3Client.putObject(PutObjectRequest.builder()
+                        .bucket(storageProperties.getBucket())
+                        .key(objectName)
+                        .contentType(contentType)
+                        .contentLength(contentLength)
+                        .build(),
+                RequestBody.fromInputStream(content, contentLength));
+    }
+
+    @Override
+    public CompletableFuture<Void> putAsync(String objectName, InputStream content, long contentLength, String contentType) {
+        ensureBucketExists();
+        return s3AsyncClient.putObject(PutObjectRequest.builder()
+                                .bucket(storageProperties.getBucket())
+                                .key(objectName)
+                                .contentType(contentType)
+                                .contentLength(contentLength)
+                                .build(),
+                        AsyncRequestBody.fromInputStream(content, contentLength, streamReader))
+                .thenApply(response -> null);
+    }
+
+    @Override
+    public InputStream get(String objectName) {
+        try {
+            return s3Client.getObject(GetObjectRequest.builder()
+                    .bucket(storageProperties.getBucket())
+                    .key(objectName)
+                    .build());
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public ObjectInfo head(String objectName) {
+        try {
+            HeadObjectResponse head = s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(storageProperties.getBucket())
+                    .key(objectName)
+                    .build());
+            return new ObjectInfo(head.contentType(), head.contentLength());
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public String presignGet(String objectName, Duration expiry) {
+        GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
+                .signatureDuration(expiry)
+                .getObjectRequest(GetObjectRequest.builder()
+                        .bucket(storageProperties.getBucket())
+                        .key(objectName)
+                        .build())
+                .build();
+        return s3Presigner.presignGetObject(presignRequest).url().toString();
+    }
+
+    @Override
+    public boolean supportsDirectUpload() {
+        return true;
+    }
+
+    @Override
+    public String presignPut(String objectName, String contentType, Duration expiry) {
+        ensureBucketExists();
+        PutObjectPresignRequest presignRequest = PutObjectPresignRequest.builder()
+                .signatureDuration(expiry)
+                .putObjectRequest(PutObjectRequest.builder()
+                        .bucket(storageProperties.getBucket())
+                        .key(objectName)
+                        .contentType(contentType)
+                        .build())
+                .build();
+        return s3Presigner.presignPutObject(presignRequest).url().toString();
+    }
+
+    @Override
+    public void delete(String objectName) {
+        s3Client.deleteObject(DeleteObjectRequest.builder()
+                .bucket(storageProperties.getBucket())
+                .key(objectName)
+                .build());
+    }
+
+    @Override
+    public List<String> deleteAll(Collection<String> objectNames) {
+        List<ObjectIdentifier> identifiers = objectNames.stream()
+                .map(objectName -> ObjectIdentifier.builder().key(objectName).build())
+                .toList();
+        List<String> failed = new ArrayList<>();
+        for (int from = 0; from < identifiers.size(); from += DELETE_BATCH_SIZE) {
+            List<ObjectIdentifier> batch = identifiers.subList(from, Math.min(from + DELETE_BATCH_SIZE, identifiers.size()));
+            DeleteObjectsResponse response = s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                    .bucket(storageProperties.getBucket())
+                    .delete(Delete.builder().objects(batch).quiet(true).build())
+                    .build());
+            if (response.hasErrors()) {
+                response.errors().forEach(error -> failed.add(error.key()));
+            }
+        }
+        return failed;
+    }
+
+    private void ensureBucketExists() {
+        if (bucketVerified) {
+            return;
+        }
+        String bucketName = storageProperties.getBucket();
+        try {
+            s3Client.headBucket(HeadBucketRequest.builder()
+                    .bucket(bucketName)
+                    .build());
+            bucketVerified = true;
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                log.warn("버킷이 존재하지 않아 새로 생성합니다: {}", bucketName);
+                s3Client.createBucket(CreateBucketRequest.builder()
+                        .bucket(bucketName)
+                        .build());
+                bucketVerified = true;
+            } else {
+                log.error("버킷 확인 중 오류 발생: {} - {}", e.statusCode(), e.awsErrorDetails().errorMessage());
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package store.piku.back.diary.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Service;
+import store.piku.back.diary.dto.SeenDiaries;
+import store.piku.back.diary.entity.FeedSeen;
+import store.piku.back.diary.repository.FeedClickRepository;
+import store.piku.back.diary.repository.FeedSeenRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 사용자별로 이미 클릭한 일기를 Redis 정렬 집합(member = 일기 ID, score = 일기 ID)으로 관리합니다.
+ * 일기 ID 가 클수록 최근 일기이므로, 가장 큰 ID 부터 seenMaxSize 개만 남기고 오래된 ID 는 잘라냅니다.
+ * 피드 후보는 최신 일기에서만 나오므로 잘린 일기는 다시 보이지 않고, 사용자별 크기는 읽은 일기 수(최대 seenMaxSize)에 비례합니다.
+ * 피드 조회 시 후보 일기의 점수만 ZMSCORE 로 읽어 걸러냅니다.
+ * 집합이 없으면(처음 조회했거나 만료된 경우) 압축된 읽은 일기 목록(feed_seen)과 보존 기간 내 클릭(feed_click)으로 다시 채웁니다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class SeenFeedService {
+
+    // 예전 비트맵 키(feed:seen:)와 자료형이 달라 다른 이름을 사용합니다. 예전 키는 seenTtl 이 지나면 사라집니다.
+    private static final String SEEN_KEY_PREFIX = "feed:seen-ids:";
+    // "집합이 채워졌음" 표시. 일기 ID 는 1부터 시작하므로 점수 0 인 이 항목은 항상 순위 0 에 있어 잘라내기에서 빠집니다.
+    private static final String LOADED_MARKER = "0";
+    private static final double LOADED_MARKER_SCORE = 0;
+
+    private final StringRedisTemplate redisTemplate;
+    private final FeedClickRepository feedClickRepository;
+    private final FeedSeenRepository feedSeenRepository;
+    private final FeedProperties feedProperties;
+
+    /**
+     * 후보 일기 중 사용자가 클릭한 일기 집합을 반환합니다.
+     * 집합이 채워졌는지 표시하는 항목을 같이 읽어, 없으면 다시 채운 뒤 한 번 더 읽습니다.
+     *
+     * @param candidateIds 확인할 일기 ID 목록
+     */
+    public SeenDiaries getSeenDiaries(String userId, Collection<Long> candidateIds) {
+        List<Long> diaryIds = new ArrayList<>(candidateIds.size());
+        List<Object> members = new ArrayList<>(candidateIds.size() + 1);
+        members.add(LOADED_MARKER);
+        for (Long diaryId : candidateIds) {
+            if (diaryId != null && diaryId > 0) {
+                diaryIds.add(diaryId);
+                members.add(diaryId.toString());
+            }
+        }
+
+        String key = SEEN_KEY_PREFIX + userId;
+        List<Double> scores = redisTemplate.opsForZSet().score(key, members.toArray());
+        if (scores == null || scores.get(0) == null) {
+            load(userId);
+            scores = redisTemplate.opsForZSet().score(key, members.toArray());
+        }
+
+        List<Long> seenIds = new ArrayList<>();
+        for (int i = 0; i < diaryIds.size(); i++) {
+            if (scores != null && scores.get(i + 1) != null) {
+                seenIds.add(diaryIds.get(i));
+            }
+        }
+        return SeenDiaries.ofIds(seenIds);
+    }
+
+    /**
+     * 일기를 읽음으로 표시합니다.
+     *
+     * @return 처음 클릭한 일기이면 true, 이미 읽은 일기이면 false
+     */
+    public boolean markSeen(String userId, Long diaryId) {
+        String key = SEEN_KEY_PREFIX + userId;
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+            load(userId);
+        }
+        Boolean added = redisTemplate.opsForZSet().add(key, diaryId.toString(), diaryId);
+        if (Boolean.TRUE.equals(added)) {
+            trim(key);
+        }
+        return Boolean.TRUE.equals(added);
+    }
+
+    /**
+     * 읽음 표시를 되돌립니다. 클릭을 저장하지 못했을 때 다시 클릭하면 저장되도록 호출합니다.
+     */
+    public void unmarkSeen(String userId, Long diaryId) {
+        redisTemplate.opsForZSet().remove(SEEN_KEY_PREFIX + userId, diaryId.toString());
+    }
+
+    private void load(String userId) {
+        Set<Long> diaryIds = new HashSet<>(feedSeenRepository.findById(userId)
+                .map(FeedSeen::getDiaryIds)
+                .orElse(List.of()));
+        diaryIds.addAll(feedClickRepository.findClickedDiaryIdsByUserId(userId));
+        log.info("사용자 {} 읽은 피드 목록 재구성 ({}건)", userId, diaryIds.size());
+
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>(diaryIds.size() + 1);
+        tuples.add(new DefaultTypedTuple<>(LOADED_MARKER, LOADED_MARKER_SCORE));
+        for (Long diaryId : diaryIds) {
+            tuples.add(new DefaultTypedTuple<>(diaryId.toString(), diaryId.doubleValue()));
+        }
+
+        String key = SEEN_KEY_PREFIX + userId;
+        redisTemplate.opsForZSet().add(key, tuples);
+        trim(key);
+        redisTemplate.expire(key, feedProperties.getSeenTtl());
+    }
+
+    // 표시 항목(순위 0)을 빼고 가장 큰 일기 ID seenMaxSize 개만 남깁니다.
+    private void trim(String key) {
+        redisTemplate.opsForZSet().removeRange(key, 1, -(feedProperties.getSeenMaxSize() + 1L));
+    }
+}
@@ -4,12 +4,18 @@ import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
 
 @Getter
 @Setter
 @Component
 @ConfigurationProperties(prefix = "storage")
 public class StorageProperties {
+    // 사진 저장소 구현: s3 (AWS S3/MinIO), local (로컬 디스크), memory (메모리, 벤치마크/테스트용)
+    private String type = "s3";
+
     private String endpoint;
     private String region;
     private String accessKey;
@@ -17,4 +23,45 @@ public class StorageProperties {
     private String bucket;
     private String publicUrl;
 
+    // 일기 사진 병렬 업로드용 스레드 수와 대기열 크기
+    private int uploadThreads = 4;
+    private int uploadQueueCapacity = 64;
+
+    // 이 크기 이상인 객체는 멀티파트로 나누어 파트를 병렬 업로드합니다.
+    // 파트 크기는 S3 최소값(마지막 파트 제외) 5MB 보다 줄일 수 없어, 7MB 제한인 사진은 최대 2개 파트(5MB + 2MB)로 나뉩니다.
+    private DataSize multipartThreshold = DataSize.ofMegabytes(5);
+    private DataSize multipartPartSize = DataSize.ofMegabytes(5);
+
+    // 직접 업로드한 사진의 최대 크기 (multipart 제한과 같게 유지)
+    private DataSize maxUploadSize = DataSize.ofMegabytes(7);
+
+    // 사진 변형(썸네일/카드/전체) 생성용 스레드 수, 대기열 크기와 JPEG 품질
+    private int variantThreads = 2;
+    private int variantQueueCapacity = 256;
+    private float variantJpegQuality = 0.82f;
+    // 변형 생성 시 디코딩할 원본의 최대 픽셀 수 (압축 폭탄 방지, 넘으면 원본을 그대로 사용)
+    private long variantMaxSourcePixels = 50_000_000L;
+
+    // 사진을 내용 해시(SHA-256) 키로 저장해 같은 사진을 한 번만 저장할지 여부와 참조 없는 객체 정리 유예 시간
+    private boolean contentAddressed = false;
+    private Duration photoObjectGracePeriod = Duration.ofDays(1);
+
+    // 직접 업로드용으로 발급한 객체 키를 일기에 사용하지 않으면 정리하기까지의 유예 시간
+    private Duration uploadGrantGracePeriod = Duration.ofDays(1);
+
+    // 동시에 진행할 수 있는 일기 내보내기(ZIP) 수
+    private int exportConcurrency = 2;
+
+    // 사진 조회용 미리 서명된 URL 유효 시간
+    private Duration presignExpiry = Duration.ofHours(12);
+    // 서명된 URL 캐시 보관 시간과 최대 항목 수 (보관 시간은 유효 시간보다 짧아야 만료 직전 URL을 내주지 않습니다)
+    private Duration urlCacheTtl = Duration.ofHours(6);
+    private long urlCacheMaxSize = 50_000;
+
+    // 이미지 게이트웨이 URL 서명 키와 유효 시간 (응답을 만든 뒤 이 시간 동안 사진을 열 수 있습니다)
+    private String gatewaySigningKey;
+    private Duration gatewayUrlExpiry = Duration.ofHours(24);
+    // 게이트웨이가 사진 ID 로 찾은 객체 키를 보관하는 시간 (새로 만든 변형 이미지는 이 시간 안에 반영됩니다)
+    private Duration gatewayKeyCacheTtl = Duration.ofMinutes(10);
+
 }
\ No newline at end of file
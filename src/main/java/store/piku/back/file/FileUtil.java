@@ -10,6 +10,7 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -136,6 +137,16 @@ public class FileUtil {
         }
     }
     
+    /**
+     * uploads 폴더 아래의 파일 경로를 반환합니다. 파일 존재 여부는 확인하지 않습니다.
+     * @param filePathWithUser "userId/실제파일명" 형태의 파일 경로
+     * @return 정규화된 파일 경로
+     * @throws IllegalArgumentException 경로가 uploads 폴더 밖을 가리키는 경우
+     */
+    public Path resolveUploadFile(String filePathWithUser) {
+        return resolveWithin(Paths.get(FileConstants.UPLOADS_BASE_DIR_NAME), filePathWithUser);
+    }
+
     /**
      * 파일 삭제
      * @param filePathWithUser "userId/실제파일명" 형태의 파일 경로
@@ -302,6 +313,28 @@ public class FileUtil {
         }
     }
 
+    /**
+     * 캐릭터 이미지 파일 경로를 반환합니다. 파일 존재 여부는 확인하지 않습니다.
+     * @param type 캐릭터 생성 타입
+     * @param userId 사용자 ID (AI_GENERATED 타입에 필요, FIXED 타입이면 null 또는 무시)
+     * @param fileName 순수 파일명 (예: "image.png")
+     * @return 정규화된 파일 경로
+     * @throws IllegalArgumentException 경로가 캐릭터 폴더 밖을 가리키는 경우
+     */
+    public Path resolveCharacterImage(CharacterCreationType type, String userId, String fileName) {
+        return resolveWithin(getCharacterUploadDir(type, userId), fileName);
+    }
+
+    // 상대 경로가 기준 폴더 밖(../ 등)을 가리키지 못하게 합니다.
+    private Path resolveWithin(Path baseDir, String relativePath) {
+        Path base = baseDir.toAbsolutePath().normalize();
+        Path path = base.resolve(relativePath).normalize();
+        if (!path.startsWith(base)) {
+            throw new IllegalArgumentException("유효하지 않은 파일 경로입니다: " + relativePath);
+        }
+        return path;
+    }
+
     /**
      * 캐릭터 이미지 파일을 Resource로 로드합니다.
      * @param type 캐릭터 생성 타입
@@ -451,4 +484,84 @@ public class FileUtil {
     public byte[] decodeBase64(String base64Data) {
         return java.util.Base64.getDecoder().decode(base64Data);
     }
+
+    /**
+     * Base64 문자열을 읽는 만큼만 디코딩하는 스트림을 엽니다.
+     * 문자열 전체를 바이트 배열로 디코딩하지 않으므로 큰 이미지도 메모리에 한 번 더 올리지 않고 업로드할 수 있습니다.
+     * 잘못된 문자가 있으면 읽는 도중 IOException 이 발생합니다.
+     * @param base64Data Base64 인코딩된 데이터 (패딩 생략 가능)
+     * @return 디코딩된 바이트 스트림
+     */
+    public InputStream openBase64Stream(String base64Data) {
+        return java.util.Base64.getDecoder().wrap(new AsciiInputStream(base64Data));
+    }
+
+    /**
+     * Base64 문자열을 디코딩했을 때의 바이트 수를 문자열 길이로 계산합니다.
+     * 스트림으로 디코딩하는 도중(업로드 중간)에 실패하지 않도록 문자와 패딩도 함께 확인합니다.
+     * @param base64Data Base64 인코딩된 데이터 (패딩 생략 가능)
+     * @return 디코딩된 바이트 수
+     * @throws IllegalArgumentException 길이, 패딩 또는 문자가 올바른 Base64 가 아닌 경우
+     */
+    public long decodedBase64Length(String base64Data) {
+        int length = base64Data.length();
+        while (length > 0 && base64Data.charAt(length - 1) == '=') {
+            length--;
+        }
+        int padding = base64Data.length() - length;
+        if (length % 4 == 1 || padding > 2 || (padding > 0 && base64Data.length() % 4 != 0)) {
+            throw new IllegalArgumentException("Base64 데이터 길이가 올바르지 않습니다.");
+        }
+        for (int i = 0; i < length; i++) {
+            if (!isBase64Char(base64Data.charAt(i))) {
+                throw new IllegalArgumentException("Base64 데이터에 올바르지 않은 문자가 있습니다: " + i + "번째 문자");
+            }
+        }
+        return (long) length * 3 / 4;
+    }
+
+    // java.util.Base64.getDecoder() 가 받는 기본 알파벳 (줄바꿈과 공백은 허용하지 않음)
+    private static boolean isBase64Char(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '+' || c == '/';
+    }
+
+    /**
+     * 문자열을 복사하지 않고 한 문자씩 ASCII 바이트로 읽는 스트림 (Base64 디코딩 입력용)
+     */
+    private static final class AsciiInputStream extends InputStream {
+
+        private final CharSequence chars;
+        private int position;
+
+        private AsciiInputStream(CharSequence chars) {
+            this.chars = chars;
+        }
+
+        @Override
+        public int read() {
+            return position < chars.length() ? chars.charAt(position++) & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            Objects.checkFromIndexSize(offset, length, buffer.length);
+            if (length == 0) {
+                return 0;
+            }
+            int remaining = chars.length() - position;
+            if (remaining <= 0) {
+                return -1;
+            }
+            int count = Math.min(length, remaining);
+            for (int i = 0; i < count; i++) {
+                buffer[offset + i] = (byte) chars.charAt(position++);
+            }
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return chars.length() - position;
+        }
+    }
 }
@@ -0,0 +1,180 @@
+package store.piku.back.file;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+
+/**
+ * 이미지 파일을 HTTP 응답으로 보냅니다. 디스크의 파일과 메모리에 미리 읽어 둔 내용을 모두 보낼 수 있습니다.
+ * ETag/Last-Modified 로 조건부 요청에 304 를 돌려주고, 단일 Range 요청에는 206 으로 해당 구간만 보냅니다.
+ * 디스크 파일 본문은 Tomcat sendfile 을 쓸 수 있으면 커널이 직접 보내게 하고, 아니면 FileChannel.transferTo 로 복사합니다.
+ */
+@Slf4j
+@Component
+public class StaticFileSender {
+
+    // Tomcat 이 요청 속성으로 알려 주는 sendfile 지원 여부와 sendfile 요청 속성
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    // 이보다 작은 파일은 sendfile 준비 비용이 더 커서 직접 씁니다. (Tomcat DefaultServlet 기본값과 같음)
+    private static final long SENDFILE_MIN_SIZE = 48 * 1024;
+
+    /**
+     * 파일을 응답으로 보냅니다.
+     *
+     * @param path 보낼 파일 경로
+     * @param contentType 응답 Content-Type
+     * @param cacheControl 응답 Cache-Control (304 응답에도 같이 보냅니다)
+     * @throws NoSuchFileException 파일이 없거나 일반 파일이 아닌 경우
+     */
+    public void send(Path path, String contentType, CacheControl cacheControl,
+                     HttpServletRequest request, HttpServletResponse response) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        if (!attributes.isRegularFile()) {
+            throw new NoSuchFileException(path.toString());
+        }
+        long length = attributes.size();
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        String etag = "\"" + Long.toHexString(length) + "-" + Long.toHexString(lastModified) + "\"";
+
+        Span span = writeHeaders(path.getFileName().toString(), length, contentType, etag, lastModified, cacheControl, request, response);
+        if (span == null) {
+            return;
+        }
+        if (span.count() >= SENDFILE_MIN_SIZE && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // 컨트롤러가 끝난 뒤 Tomcat 이 파일 구간을 소켓으로 바로 보냅니다.
+            request.setAttribute(SENDFILE_FILENAME, path.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, span.start());
+            request.setAttribute(SENDFILE_END, span.start() + span.count());
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+            long position = span.start();
+            long remaining = span.count();
+            while (remaining > 0) {
+                long written = channel.transferTo(position, remaining, target);
+                if (written <= 0) {
+                    break;
+                }
+                position += written;
+                remaining -= written;
+            }
+        }
+    }
+
+    /**
+     * 메모리에 있는 내용을 응답으로 보냅니다. 내용이 바뀌지 않는 작은 이미지를 디스크 접근 없이 보낼 때 사용합니다.
+     *
+     * @param content 보낼 내용 (수정하지 않습니다)
+     * @param fileName Content-Disposition 에 쓸 파일명
+     * @param etag 따옴표를 포함한 ETag
+     * @param lastModified 마지막 수정 시각 (epoch 밀리초)
+     */
+    public void send(byte[] content, String fileName, String contentType, String etag, long lastModified,
+                     CacheControl cacheControl, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Span span = writeHeaders(fileName, content.length, contentType, etag, lastModified, cacheControl, request, response);
+        if (span == null) {
+            return;
+        }
+        response.getOutputStream().write(content, (int) span.start(), (int) span.count());
+    }
+
+    /**
+     * 상태와 헤더를 설정하고 본문으로 보낼 구간을 반환합니다.
+     *
+     * @return 보낼 구간, 본문 없이 응답이 끝나면(304, 416, HEAD, 빈 내용) null
+     */
+    private Span writeHeaders(String fileName, long length, String contentType, String etag, long lastModified,
+                              CacheControl cacheControl, HttpServletRequest request, HttpServletResponse response) {
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        // If-None-Match / If-Modified-Since 가 맞으면 304 상태와 ETag, Last-Modified 를 설정합니다.
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+            return null;
+        }
+
+        response.setContentType(contentType);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.inline()
+                .filename(fileName, StandardCharsets.UTF_8)
+                .build()
+                .toString());
+
+        long start = 0;
+        long end = length - 1;
+        HttpRange range = requestedRange(request, etag, lastModified);
+        if (range != null) {
+            try {
+                start = range.getRangeStart(length);
+                end = range.getRangeEnd(length);
+            } catch (IllegalArgumentException e) {
+                start = length;
+            }
+            // HttpRange 는 시작 위치가 내용 길이를 넘어도 그대로 돌려주므로 여기서 확인합니다. (빈 내용의 구간 요청 포함)
+            if (start >= length || start > end) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return null;
+            }
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        }
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+
+        if (HttpMethod.HEAD.matches(request.getMethod()) || count <= 0) {
+            return null;
+        }
+        return new Span(start, count);
+    }
+
+    /**
+     * 처리할 Range 를 반환합니다. 없거나, If-Range 가 현재 파일과 맞지 않거나, 여러 구간을 요청하면 null 을 반환해 전체를 보냅니다.
+     */
+    private HttpRange requestedRange(HttpServletRequest request, String etag, long lastModified) {
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader == null) {
+            return null;
+        }
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        try {
+            if (ifRange != null && !ifRange.equals(etag)) {
+                long ifRangeDate = request.getDateHeader(HttpHeaders.IF_RANGE);
+                if (ifRangeDate == -1 || ifRangeDate / 1000 != lastModified / 1000) {
+                    return null;
+                }
+            }
+            List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            // 다른 ETag 나 날짜 형식이 아닌 If-Range 도 여기서 전체 전송으로 처리됩니다.
+            log.debug("처리할 수 없는 Range 요청을 무시합니다: {}", rangeHeader);
+            return null;
+        }
+    }
+
+    private record Span(long start, long count) {
+    }
+}
@@ -10,6 +10,7 @@ import store.piku.back.friend.entity.Friend;
 import store.piku.back.friend.key.FriendID;
 import store.piku.back.user.entity.User;
 
+import java.util.Collection;
 import java.util.List;
 
 
@@ -26,6 +27,15 @@ public interface FriendRepository extends JpaRepository<Friend, FriendID> {
             "WHERE f.userId1 = :userId OR f.userId2 = :userId")
     List<String> findFriendIds(@Param("userId") String userId);
 
+    // otherUserIds 중 userId 와 친구인 사용자만 반환합니다. (피드 한 페이지의 작성자 등)
+    @Query("SELECT CASE " +
+            "WHEN f.userId1 = :userId THEN f.userId2 " +
+            "ELSE f.userId1 END " +
+            "FROM Friend f " +
+            "WHERE (f.userId1 = :userId AND f.userId2 IN :otherUserIds) " +
+            "OR (f.userId2 = :userId AND f.userId1 IN :otherUserIds)")
+    List<String> findFriendIdsIn(@Param("userId") String userId, @Param("otherUserIds") Collection<String> otherUserIds);
+
 
     @Query("SELECT CASE WHEN COUNT(f) > 0 THEN true ELSE false END FROM Friend f " +
             "WHERE ((f.userId1 = :userId1 AND f.userId2 = :userId2) OR (f.userId1 = :userId2 AND f.userId2 = :userId1)) "
@@ -7,6 +7,7 @@ import org.springframework.stereotype.Repository;
 import store.piku.back.friend.entity.FriendRequest;
 import store.piku.back.friend.key.FriendRequestID;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,4 +15,6 @@ import java.util.Optional;
 public interface FriendRequestRepository extends JpaRepository<FriendRequest, FriendRequestID> {
     Optional<FriendRequest> findByFromUserIdAndToUserId(String fromUserId, String toUserId);
     Page<FriendRequest> findByToUserId(String toUserId, Pageable pageable);
+    List<FriendRequest> findByFromUserIdAndToUserIdIn(String fromUserId, Collection<String> toUserIds);
+    List<FriendRequest> findByToUserIdAndFromUserIdIn(String toUserId, Collection<String> fromUserIds);
 }
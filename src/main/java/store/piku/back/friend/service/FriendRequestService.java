@@ -7,8 +7,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import store.piku.back.counter.entity.CounterType;
+import store.piku.back.counter.service.CounterService;
 import store.piku.back.friend.dto.FriendsDTO;
 import store.piku.back.diary.enums.FriendStatus;
+import store.piku.back.diary.service.FeedPageCache;
+import store.piku.back.diary.service.FeedTimelineService;
 import store.piku.back.friend.dto.FriendRequestResponseDto;
 import store.piku.back.friend.entity.Friend;
 import store.piku.back.friend.entity.FriendRequest;
@@ -26,7 +30,10 @@ import store.piku.back.user.exception.UserNotFoundException;
 import store.piku.back.user.service.reader.UserReader;
 import store.piku.back.notification.entity.NotificationType;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -42,6 +49,9 @@ public class FriendRequestService {
     private final NotificationService notificationService;
     private final FriendRepository friendRepository;
     private final UserReader userReader;
+    private final FeedTimelineService feedTimelineService;
+    private final FeedPageCache feedPageCache;
+    private final CounterService counterService;
 
 
     public boolean areFriends(String userId1, String userId2) {
@@ -71,6 +81,11 @@ public class FriendRequestService {
 
             log.info(toUserId +","+fromUserId +" 사용자 친구 테이블 저장 요청");
             friendRepository.save(new Friend(fromUserId, toUserId));
+            counterService.increment(CounterType.USER_FRIENDS, fromUserId, 1);
+            counterService.increment(CounterType.USER_FRIENDS, toUserId, 1);
+            feedTimelineService.evictFriendTimeline(fromUserId);
+            feedTimelineService.evictFriendTimeline(toUserId);
+            feedPageCache.evictAll(List.of(fromUserId, toUserId));
 
             notificationService.sendNotification(
                     toUser.getId(),
@@ -86,6 +101,7 @@ public class FriendRequestService {
 
              FriendRequest request = new FriendRequest(fromUserId, toUserId);
              friendRequestRepository.save(request);
+             feedPageCache.evictAll(List.of(fromUserId, toUserId));
 
              notificationService.sendNotification(
                         toUser.getId(),
@@ -151,6 +167,7 @@ public class FriendRequestService {
             throw new FriendRequestNotFoundException("해당 친구 요청 기록을 찾을 수 없습니다.");
         }
         friendRequestRepository.deleteById(friendRequestID);
+        feedPageCache.evictAll(List.of(fromUserId, toUserId));
         return new FriendRequestResponseDto(false, "친구 요청을 거절했습니다.");
     }
 
@@ -164,6 +181,7 @@ public class FriendRequestService {
             throw new FriendRequestNotFoundException("요청 보낸 기록이 없습니다.");
         }
         friendRequestRepository.deleteById(friendRequestID);
+        feedPageCache.evictAll(List.of(fromUserId, toUserId));
         return new FriendRequestResponseDto(false, "친구 요청을 취소했습니다.");
     }
 
@@ -181,6 +199,35 @@ public class FriendRequestService {
     }
 
 
+    /**
+     * 여러 사용자와의 친구 관계 상태를 한 번에 조회합니다. (피드 목록용)
+     * 대상 중 친구인 사용자 1회, 보낸/받은 요청 각 1회로 대상 수와 관계없이 쿼리 3번에 끝나며, 모두 대상 ID 목록(IN)으로만 읽습니다.
+     *
+     * @param currentUserId 현재 사용자 ID
+     * @param otherUserIds 상태를 조회할 사용자 ID 목록
+     * @return 사용자 ID 별 친구 관계 상태
+     */
+    public Map<String, FriendStatus> getFriendshipStatuses(String currentUserId, Collection<String> otherUserIds) {
+        Map<String, FriendStatus> statuses = new HashMap<>();
+        if (otherUserIds.isEmpty()) {
+            return statuses;
+        }
+        for (String otherUserId : otherUserIds) {
+            statuses.put(otherUserId, FriendStatus.NONE);
+        }
+        // 우선순위가 낮은 상태부터 덮어씁니다. (받은 요청 < 보낸 요청 < 친구)
+        for (FriendRequest request : friendRequestRepository.findByToUserIdAndFromUserIdIn(currentUserId, otherUserIds)) {
+            statuses.put(request.getFromUserId(), FriendStatus.RECEIVED);
+        }
+        for (FriendRequest request : friendRequestRepository.findByFromUserIdAndToUserIdIn(currentUserId, otherUserIds)) {
+            statuses.put(request.getToUserId(), FriendStatus.REQUESTED);
+        }
+        for (String friendId : friendRepository.findFriendIdsIn(currentUserId, otherUserIds)) {
+            statuses.put(friendId, FriendStatus.FRIENDS);
+        }
+        return statuses;
+    }
+
     /**
      * 특정 사용자의 친구 수를 반환합니다.
      * 사용자가 userId1 또는 userId2로 포함된 모든 친구 관계를 카운트합니다.
@@ -191,7 +238,7 @@ public class FriendRequestService {
     public int countFriends(String userId) {
         log.info("사용자 ID: {} 의 친구 수 조회 요청", userId);
 
-        return friendRepository.countByUserId1OrUserId2(userId, userId);
+        return (int) counterService.get(CounterType.USER_FRIENDS, userId);
     }
 
     public List<String> getFriends(String userId) {
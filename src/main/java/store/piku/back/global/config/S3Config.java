@@ -6,8 +6,11 @@ import org.springframework.context.annotation.Profile;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import store.piku.back.diary.service.StorageProperties;
 
 import java.net.URI;
@@ -51,4 +54,75 @@ public class S3Config {
                 )
                 .build();
     }
-}
\ No newline at end of file
+
+    // 큰 객체는 멀티파트로 나누어 파트를 병렬 업로드하는 비동기 클라이언트
+    @Bean(name = "s3AsyncClient", destroyMethod = "close")
+    @Profile("prod")
+    public S3AsyncClient s3AsyncClientProd() {
+        return S3AsyncClient.builder()
+                .region(Region.of(storageProperties.getRegion()))
+                // ec2에 역할 설정
+                .multipartEnabled(true)
+                .multipartConfiguration(multipartConfiguration())
+                .build();
+    }
+
+    @Bean(name = "s3AsyncClient", destroyMethod = "close")
+    @Profile("dev")
+    public S3AsyncClient s3AsyncClientDev() {
+        return S3AsyncClient.builder()
+                .endpointOverride(URI.create(storageProperties.getEndpoint())) // MinIO 서버 주소
+                .region(Region.of(storageProperties.getRegion()))
+                .credentialsProvider(
+                        StaticCredentialsProvider.create(
+                                AwsBasicCredentials.create(
+                                        storageProperties.getAccessKey(),
+                                        storageProperties.getSecretKey()
+                                )
+                        )
+                )
+                .forcePathStyle(true) // 주소 기반 접근 설정
+                .multipartEnabled(true)
+                .multipartConfiguration(multipartConfiguration())
+                .build();
+    }
+
+    // 미리 서명된 URL 생성기는 스레드 안전하므로 하나를 만들어 계속 재사용합니다.
+    @Bean(destroyMethod = "close")
+    @Profile("prod")
+    public S3Presigner s3PresignerProd() {
+        return S3Presigner.builder()
+                .region(Region.of(storageProperties.getRegion()))
+                // ec2에 역할 설정
+                .build();
+    }
+
+    @Bean(destroyMethod = "close")
+    @Profile("dev")
+    public S3Presigner s3PresignerDev() {
+        return S3Presigner.builder()
+                .endpointOverride(URI.create(storageProperties.getEndpoint())) // MinIO 서버 주소
+                .region(Region.of(storageProperties.getRegion()))
+                .credentialsProvider(
+                        StaticCredentialsProvider.create(
+                                AwsBasicCredentials.create(
+                                        storageProperties.getAccessKey(),
+                                        storageProperties.getSecretKey()
+                                )
+                        )
+                )
+                .serviceConfiguration(
+                        S3Configuration.builder()
+                                .pathStyleAccessEnabled(true) // 주소 기반 접근 설정
+                                .build()
+                )
+                .build();
+    }
+
+    private MultipartConfiguration multipartConfiguration() {
+        return MultipartConfiguration.builder()
+                .thresholdInBytes(storageProperties.getMultipartThreshold().toBytes())
+                .minimumPartSizeInBytes(storageProperties.getMultipartPartSize().toBytes())
+                .build();
+    }
+}
@@ -50,6 +50,8 @@ public class SecurityConfig {
         List<String> permittedPaths = new ArrayList<>(Arrays.asList(
                 "/api/auth/**",
                 "/api/diary/images/{userId}/{fileName:.+}",
+                // 이미지 게이트웨이는 img 태그로 열리므로 토큰 대신 URL 서명으로 확인합니다. (PhotoUrlSigner)
+                "/api/images/**",
                 "/api/characters/fixed/**",
                 "/api/notifications/subscribe",
                 "/actuator/health",
@@ -0,0 +1,47 @@
+package store.piku.back.global.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+import java.io.IOException;
+
+@Configuration
+public class WebCacheConfig {
+
+    /**
+     * 사진이 고정된 게이트웨이 URL(/api/images)로 내려가 같은 데이터면 같은 본문이 되는 조회 API 에 ETag 를 붙입니다.
+     * 사용자별 응답이므로 private 로 보관하되 매번 재검증하고, 바뀌지 않았으면 304 로 본문 전송을 생략합니다.
+     * 본문을 메모리에 모아 해시를 계산하므로 스트리밍 응답(내보내기, SSE 구독)은 대상에서 제외합니다.
+     */
+    @Bean
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> readApiEtagFilter() {
+        FilterRegistrationBean<ShallowEtagHeaderFilter> registration =
+                new FilterRegistrationBean<>(new RevalidatingEtagHeaderFilter());
+        registration.addUrlPatterns(
+                "/api/diary/user/*",        // 캘린더
+                "/api/sse/notifications"    // 알림 목록
+        );
+        return registration;
+    }
+
+    private static class RevalidatingEtagHeaderFilter extends ShallowEtagHeaderFilter {
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                        FilterChain filterChain) throws ServletException, IOException {
+            // Spring Security 의 기본 no-store 헤더 대신 재검증 가능한 캐시 정책을 먼저 지정합니다.
+            if ("GET".equals(request.getMethod())) {
+                response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+            }
+            super.doFilterInternal(request, response, filterChain);
+        }
+    }
+}
@@ -8,6 +8,12 @@ import lombok.RequiredArgsConstructor;
 public enum ErrorCode {
     DIARY_NOT_FOUND(404, "해당 일기 목록이 존재하지 않습니다."),
 
+    INVALID_FEED_CURSOR(400, "유효하지 않은 커서입니다. 첫 페이지부터 다시 조회해 주세요."),
+
+    DIARY_EXPORT_BUSY(429, "진행 중인 일기 내보내기가 많습니다. 잠시 후 다시 시도해 주세요."),
+
+    DIRECT_UPLOAD_NOT_SUPPORTED(501, "현재 저장소는 사진 직접 업로드를 지원하지 않습니다. 일기 작성 시 사진을 함께 보내 주세요."),
+
     USER_NOT_FOUND(400, "존재하지 않는 사용자입니다."),
 
     INTERNAL_SERVER_ERROR(500, "서버에 오류가 발생했습니다.");
@@ -1,11 +1,16 @@
 package store.piku.back.global.util;
 
+import lombok.RequiredArgsConstructor;
+import store.piku.back.diary.service.PhotoUrlSigner;
 import store.piku.back.global.dto.RequestMetaInfo;
 import org.springframework.stereotype.Component;
 
 @Component
+@RequiredArgsConstructor
 public class ImagePathToUrlConverter {
 
+    private final PhotoUrlSigner photoUrlSigner;
+
     /**
      * Diary 이미지 경로를 전체 URL로 변환합니다. (DiaryController 참고)
      *
@@ -25,6 +30,26 @@ public class ImagePathToUrlConverter {
                 imagePath);
     }
 
+    /**
+     * 일기 사진의 이미지 게이트웨이 경로를 서명된 전체 URL로 변환합니다. (DiaryImageController 참고)
+     * 조회 권한을 확인한 응답에서만 호출해야 하며, 서명 만료 시각이 한 시간 단위라 그 안에서는 같은 값이 나옵니다.
+     *
+     * @param photoPath 게이트웨이 경로 (예: "42/thumb", PhotoVariant.pathFor 참고)
+     * @param requestMetaInfo HttpRequest 정보 (예: scheme="http", domain="localhost", port=8080)
+     * @return 완성된 URL (예: "http://localhost:8080/api/images/42/thumb?exp=...&sig=..."), 변환 불가 시 null
+     */
+    public String diaryPhotoUrl(String photoPath, RequestMetaInfo requestMetaInfo) {
+        if (photoPath == null || requestMetaInfo == null) {
+            return null;
+        }
+        return String.format("%s://%s:%d/api/images/%s?%s",
+                requestMetaInfo.scheme(),
+                requestMetaInfo.domain(),
+                requestMetaInfo.port(),
+                photoPath,
+                photoUrlSigner.sign(photoPath));
+    }
+
     public String extractImagePathFromUrl(String fullUrl, RequestMetaInfo requestMetaInfo) {
         if (fullUrl == null || fullUrl.isEmpty() || requestMetaInfo == null) {
             return "";
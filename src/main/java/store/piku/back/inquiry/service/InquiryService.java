@@ -16,6 +16,8 @@ import store.piku.back.user.service.reader.UserReader;
 import java.io.UnsupportedEncodingException;
 import java.time.LocalDate;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Service
 @RequiredArgsConstructor
@@ -31,14 +33,15 @@ public class InquiryService {
     public void saveInquiry(String userId, String content, MultipartFile image) {
         User user = userReader.getUserById(userId);
 
-        String imageUrl = null;
+        // 이미지 업로드는 이메일 전송과 동시에 진행하고, 문의를 저장하기 전에 완료를 기다립니다.
+        CompletableFuture<String> imageUpload = CompletableFuture.completedFuture(null);
         if (image != null && !image.isEmpty()) {
             String originalFilename = image.getOriginalFilename();
             String filename = photoUtil.generateFileName(LocalDate.now(), Objects.requireNonNull(originalFilename));
             String UUID = userId.substring(0, 8);
             String objectKey = "inquiry/"+ LocalDate.now() + "/" + UUID +"_" +filename;
 
-            imageUrl = photoStorageService.uploadToStorage(image, userId,objectKey);
+            imageUpload = photoStorageService.uploadToStorageAsync(image, objectKey);
         }
 
         try{
@@ -47,6 +50,16 @@ public class InquiryService {
             log.error("피드백 이메일 전송 실패: {}", e.getMessage());
         }
 
+        String imageUrl;
+        try {
+            imageUrl = imageUpload.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+
         Inquiry inquiry = new Inquiry(user, content, imageUrl);
         inquiryRepository.save(inquiry);
     }
@@ -7,8 +7,8 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import store.piku.back.diary.entity.Diary;
 import store.piku.back.diary.entity.Photo;
+import store.piku.back.diary.enums.PhotoVariant;
 import store.piku.back.diary.repository.PhotoRepository;
-import store.piku.back.diary.service.PhotoStorageService;
 import store.piku.back.global.dto.RequestMetaInfo;
 import store.piku.back.global.util.ImagePathToUrlConverter;
 import store.piku.back.notification.dto.response.NotificationResponseDTO;
@@ -38,7 +38,6 @@ public class NotificationService {
     private final PhotoRepository photoRepository;
     private final ImagePathToUrlConverter imagePathToUrlConverter;
     private final NotificationProvider notificationProvider;
-    private final PhotoStorageService photoStorageService;
 
 
     public SseEmitter subscribe(String userId) {
@@ -140,8 +139,7 @@ public class NotificationService {
         if (diary != null) {
             Optional<Photo> representPhotoOpt = photoRepository.findFirstByDiaryIdAndRepresentIsTrue(diary.getId());
             thumbnailUrl = representPhotoOpt
-                    .map(Photo::getUrl)
-                    .map(photoStorageService::getPhotoUrl)
+                    .map(photo -> imagePathToUrlConverter.diaryPhotoUrl(PhotoVariant.THUMBNAIL.pathFor(photo.getId()), requestMetaInfo))
                     .orElse(null);
         }
 
@@ -229,8 +227,7 @@ public class NotificationService {
 
                 Optional<Photo> representPhotoOpt = photoRepository.findFirstByDiaryIdAndRepresentIsTrue(relatedDiaryId);
                 thumbnailUrl = representPhotoOpt
-                        .map(Photo::getUrl)
-                        .map(photoStorageService::getPhotoUrl)
+                        .map(photo -> imagePathToUrlConverter.diaryPhotoUrl(PhotoVariant.THUMBNAIL.pathFor(photo.getId()), requestMetaInfo))
                         .orElse(null);
             }
 
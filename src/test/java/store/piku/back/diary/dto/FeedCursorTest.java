@@ -0,0 +1,72 @@
+package store.piku.back.diary.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FeedCursorTest {
+
+	@Test
+	void encodeAndDecodeKeepPositions() {
+		FeedCursor cursor = new FeedCursor(
+				new FeedCursor.Position(1_700_000_000_000L, 42L),
+				FeedCursor.START,
+				FeedCursor.EXHAUSTED);
+
+		FeedCursor decoded = FeedCursor.decode(cursor.encode());
+
+		assertThat(decoded).isEqualTo(cursor);
+		assertThat(decoded.hasNext()).isTrue();
+	}
+
+	@Test
+	void blankTokenIsFirstPage() {
+		assertThat(FeedCursor.decode(null)).isEqualTo(FeedCursor.first());
+		assertThat(FeedCursor.decode(" ")).isEqualTo(FeedCursor.first());
+	}
+
+	@Test
+	void exhaustedCursorHasNoNext() {
+		FeedCursor cursor = new FeedCursor(FeedCursor.EXHAUSTED, FeedCursor.EXHAUSTED, FeedCursor.EXHAUSTED);
+
+		assertThat(cursor.hasNext()).isFalse();
+	}
+
+	@Test
+	void malformedTokenIsRejected() {
+		String twoParts = Base64.getUrlEncoder().withoutPadding()
+				.encodeToString("1,2:3,4".getBytes(StandardCharsets.UTF_8));
+		String noDiaryId = Base64.getUrlEncoder().withoutPadding()
+				.encodeToString("1000:0,0:0,0".getBytes(StandardCharsets.UTF_8));
+
+		assertThatThrownBy(() -> FeedCursor.decode("not base64!")).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> FeedCursor.decode(twoParts)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> FeedCursor.decode(noDiaryId)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void tiesAreOrderedByDiaryIdLikeTheTimeline() {
+		long midnight = 1_700_000_000_000L;
+		List<TimelineEntry> entries = new ArrayList<>(List.of(
+				new TimelineEntry(9L, midnight),
+				new TimelineEntry(10L, midnight),
+				new TimelineEntry(11L, midnight),
+				new TimelineEntry(12L, midnight + 1)));
+		entries.sort(TimelineEntry.NEWEST_FIRST);
+
+		// Redis 와 같이 같은 점수 안에서는 member 문자열의 사전순 역순
+		assertThat(entries).extracting(TimelineEntry::diaryId).containsExactly(12L, 9L, 11L, 10L);
+
+		// 페이지 경계가 같은 작성 시각 안에 있어도 나머지를 빠짐없이, 중복 없이 이어 읽습니다.
+		FeedCursor.Position position = FeedCursor.Position.of(entries.get(1));
+		assertThat(entries).filteredOn(position::precedes)
+				.extracting(TimelineEntry::diaryId)
+				.containsExactly(11L, 10L);
+	}
+}
@@ -0,0 +1,29 @@
+package store.piku.back.diary.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SeenDiariesTest {
+
+	@Test
+	void containsOnlyGivenIds() {
+		SeenDiaries seen = SeenDiaries.ofIds(List.of(5L, 1_000_000_000L));
+
+		assertThat(seen.contains(5L)).isTrue();
+		assertThat(seen.contains(1_000_000_000L)).isTrue();
+		assertThat(seen.contains(6L)).isFalse();
+	}
+
+	@Test
+	void emptyListContainsNothing() {
+		assertThat(SeenDiaries.ofIds(List.of()).contains(5L)).isFalse();
+	}
+
+	@Test
+	void nullIdIsNotSeen() {
+		assertThat(SeenDiaries.ofIds(List.of(5L)).contains(null)).isFalse();
+	}
+}
@@ -0,0 +1,45 @@
+package store.piku.back.diary.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FeedSeenTest {
+
+	@Test
+	void newRowHasNoDiaries() {
+		assertThat(new FeedSeen("u1").getDiaryIds()).isEmpty();
+	}
+
+	@Test
+	void addedIdsAreReadBackSortedAndUnique() {
+		FeedSeen seen = new FeedSeen("u1");
+
+		seen.addDiaryIds(List.of(300L, 5L, 127L, 128L, 5L, 1L << 40), 10);
+		seen.addDiaryIds(List.of(1L, 300L), 10);
+
+		assertThat(seen.getDiaryIds()).containsExactly(1L, 5L, 127L, 128L, 300L, 1L << 40);
+	}
+
+	@Test
+	void keepsOnlyNewestIds() {
+		FeedSeen seen = new FeedSeen("u1");
+
+		seen.addDiaryIds(List.of(10L, 20L, 30L), 3);
+		seen.addDiaryIds(List.of(5L, 40L), 3);
+
+		assertThat(seen.getDiaryIds()).containsExactly(20L, 30L, 40L);
+	}
+
+	@Test
+	void closeIdsTakeOneByteEach() {
+		FeedSeen seen = new FeedSeen("u1");
+
+		seen.addDiaryIds(List.of(1000L, 1001L, 1003L, 1010L), 10);
+
+		// 첫 ID(1000)는 2바이트, 나머지 차이(1, 2, 7)는 1바이트씩
+		assertThat(seen.getDiaryIdsData()).hasSize(5);
+	}
+}
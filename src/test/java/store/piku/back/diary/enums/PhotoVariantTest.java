@@ -0,0 +1,60 @@
+package store.piku.back.diary.enums;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PhotoVariantTest {
+
+	private static final String ORIGINAL = "user/20250101_ab12cd34.png";
+
+	@Test
+	void keyForReplacesExtension() {
+		assertThat(PhotoVariant.THUMBNAIL.keyFor(ORIGINAL)).isEqualTo("user/20250101_ab12cd34_thumb.jpg");
+		assertThat(PhotoVariant.FULL.keyFor("user/noext")).isEqualTo("user/noext_full.jpg");
+		assertThat(PhotoVariant.CARD.keyFor("user.name/noext")).isEqualTo("user.name/noext_card.jpg");
+	}
+
+	@Test
+	void selectReturnsWantedVariantWhenGenerated() {
+		int all = PhotoVariant.THUMBNAIL.bit() | PhotoVariant.CARD.bit() | PhotoVariant.FULL.bit();
+
+		assertThat(PhotoVariant.select(ORIGINAL, all, PhotoVariant.CARD)).isEqualTo(PhotoVariant.CARD.keyFor(ORIGINAL));
+	}
+
+	@Test
+	void selectFallsBackToLargerVariant() {
+		int variants = PhotoVariant.THUMBNAIL.bit() | PhotoVariant.FULL.bit();
+
+		assertThat(PhotoVariant.select(ORIGINAL, variants, PhotoVariant.CARD)).isEqualTo(PhotoVariant.FULL.keyFor(ORIGINAL));
+	}
+
+	@Test
+	void selectNeverReturnsSmallerVariant() {
+		int variants = PhotoVariant.THUMBNAIL.bit() | PhotoVariant.CARD.bit();
+
+		assertThat(PhotoVariant.select(ORIGINAL, variants, PhotoVariant.FULL)).isEqualTo(ORIGINAL);
+	}
+
+	@Test
+	void selectReturnsOriginalWithoutVariants() {
+		assertThat(PhotoVariant.select(ORIGINAL, 0, PhotoVariant.THUMBNAIL)).isEqualTo(ORIGINAL);
+		assertThat(PhotoVariant.select(null, PhotoVariant.THUMBNAIL.bit(), PhotoVariant.THUMBNAIL)).isNull();
+	}
+
+	@Test
+	void fromSuffixMatchesPathName() {
+		for (PhotoVariant variant : PhotoVariant.values()) {
+			assertThat(PhotoVariant.fromSuffix(variant.getSuffix())).isEqualTo(variant);
+		}
+		assertThat(PhotoVariant.fromSuffix("thumb")).isEqualTo(PhotoVariant.THUMBNAIL);
+	}
+
+	@Test
+	void fromSuffixRejectsUnknownName() {
+		assertThatThrownBy(() -> PhotoVariant.fromSuffix("THUMB")).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> PhotoVariant.fromSuffix("original")).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> PhotoVariant.fromSuffix(null)).isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,94 @@
+package store.piku.back.diary.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import store.piku.back.diary.dto.SeenDiaries;
+import store.piku.back.diary.dto.TimelineEntry;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DefaultFeedRankerTest {
+
+	private static final String USER_ID = "viewer";
+	private static final SeenDiaries NOTHING_SEEN = SeenDiaries.ofIds(List.of());
+
+	private final FeedScoreService feedScoreService = mock(FeedScoreService.class);
+	private final FeedProperties feedProperties = new FeedProperties();
+	private final Map<Long, Double> scores = new HashMap<>();
+	private DefaultFeedRanker ranker;
+
+	@BeforeEach
+	void setUp() {
+		feedProperties.setRankFriendWeight(3.0);
+		feedProperties.setRankSeenPenalty(1000.0);
+		feedProperties.setRankJitter(0);
+		when(feedScoreService.getScores(anyList())).thenReturn(scores);
+		ranker = new DefaultFeedRanker(feedScoreService, feedProperties);
+	}
+
+	@Test
+	void ordersByScoreDescending() {
+		List<TimelineEntry> entries = List.of(entry(1L, 10.0), entry(2L, 30.0), entry(3L, 20.0));
+
+		assertThat(ranker.rank(USER_ID, List.of(), entries, NOTHING_SEEN, 1L)).containsExactly(2L, 3L, 1L);
+	}
+
+	@Test
+	void friendWeightLiftsFriendDiary() {
+		List<TimelineEntry> friends = List.of(entry(1L, 10.0));
+		List<TimelineEntry> publics = List.of(entry(2L, 12.0), entry(3L, 14.0));
+
+		assertThat(ranker.rank(USER_ID, friends, publics, NOTHING_SEEN, 1L)).containsExactly(3L, 1L, 2L);
+	}
+
+	@Test
+	void seenDiariesGoLast() {
+		List<TimelineEntry> entries = List.of(entry(1L, 500.0), entry(2L, 10.0));
+
+		assertThat(ranker.rank(USER_ID, List.of(), entries, SeenDiaries.ofIds(List.of(1L)), 1L)).containsExactly(2L, 1L);
+	}
+
+	@Test
+	void seenDiariesOlderThanThreeDaysAreDropped() {
+		TimelineEntry old = new TimelineEntry(1L, LocalDateTime.now().minusDays(4));
+		scores.put(1L, 100.0);
+		List<TimelineEntry> entries = List.of(old, entry(2L, 10.0));
+
+		assertThat(ranker.rank(USER_ID, List.of(), entries, SeenDiaries.ofIds(List.of(1L)), 1L)).containsExactly(2L);
+		assertThat(ranker.rank(USER_ID, List.of(), entries, NOTHING_SEEN, 1L)).containsExactly(1L, 2L);
+	}
+
+	@Test
+	void equalScoresBreakTiesByNewerId() {
+		List<TimelineEntry> entries = List.of(entry(1L, 10.0), entry(3L, 10.0), entry(2L, 10.0));
+
+		assertThat(ranker.rank(USER_ID, List.of(), entries, NOTHING_SEEN, 1L)).containsExactly(3L, 2L, 1L);
+	}
+
+	@Test
+	void jitterIsStableForSeedAndSmallerThanScoreGap() {
+		feedProperties.setRankJitter(0.5);
+		List<TimelineEntry> tied = List.of(entry(1L, 10.0), entry(2L, 10.0), entry(3L, 10.0), entry(4L, 10.0));
+		List<TimelineEntry> spaced = List.of(entry(5L, 1.0), entry(6L, 2.0), entry(7L, 3.0));
+
+		assertThat(ranker.rank(USER_ID, List.of(), tied, NOTHING_SEEN, 99L))
+				.isEqualTo(ranker.rank(USER_ID, List.of(), tied, NOTHING_SEEN, 99L));
+		for (long seed = 0; seed < 100; seed++) {
+			assertThat(ranker.rank(USER_ID, List.of(), spaced, NOTHING_SEEN, seed)).containsExactly(7L, 6L, 5L);
+		}
+	}
+
+	// 작성 시각은 현재로 두어 읽은 피드 제외 기준(3일)에 걸리지 않게 합니다.
+	private TimelineEntry entry(long diaryId, double score) {
+		scores.put(diaryId, score);
+		return new TimelineEntry(diaryId, LocalDateTime.now());
+	}
+}
@@ -0,0 +1,143 @@
+package store.piku.back.diary.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class FeedClickBufferTest {
+
+	private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+	private final SeenFeedService seenFeedService = mock(SeenFeedService.class);
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private FeedClickBuffer buffer;
+
+	@AfterEach
+	void tearDown() throws InterruptedException {
+		if (buffer != null) {
+			buffer.shutdown();
+		}
+	}
+
+	@Test
+	void flushInsertsBufferedClicksInOneStatement() {
+		buffer = newBuffer(100, 10, 3);
+
+		assertThat(buffer.add("u1", 1L)).isTrue();
+		assertThat(buffer.add("u1", 2L)).isTrue();
+		assertThat(buffer.add("u2", 1L)).isTrue();
+		// 저장 대기 중인 같은 클릭은 다시 넣지 않습니다.
+		assertThat(buffer.add("u1", 1L)).isTrue();
+		buffer.flush();
+
+		ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+		ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+		verify(jdbcTemplate).update(sql.capture(), args.capture());
+		assertThat(sql.getValue()).startsWith("INSERT INTO feed_click").endsWith("(?, ?, ?), (?, ?, ?), (?, ?, ?)");
+		assertThat(args.getValue()).hasSize(9);
+		assertThat(args.getValue()[0]).isEqualTo("u1");
+		assertThat(args.getValue()[1]).isEqualTo(1L);
+	}
+
+	@Test
+	void flushSplitsIntoBatches() throws InterruptedException {
+		buffer = newBuffer(100, 2, 3);
+
+		// 2건마다 저장 스레드가 돌 수 있어 묶음 구성은 정해지지 않으므로 묶음 크기와 전체 건수만 확인합니다.
+		for (long diaryId = 1; diaryId <= 5; diaryId++) {
+			buffer.add("u1", diaryId);
+		}
+		buffer.shutdown();
+
+		ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+		verify(jdbcTemplate, atLeast(3)).update(anyString(), args.capture());
+		assertThat(args.getAllValues()).allSatisfy(values -> assertThat(values.length).isLessThanOrEqualTo(6));
+		assertThat(args.getAllValues().stream().mapToInt(values -> values.length).sum()).isEqualTo(15);
+	}
+
+	@Test
+	void clickCanBeBufferedAgainAfterItIsSaved() {
+		buffer = newBuffer(100, 10, 3);
+
+		buffer.add("u1", 1L);
+		buffer.flush();
+		buffer.add("u1", 1L);
+		buffer.flush();
+
+		verify(jdbcTemplate, times(2)).update(anyString(), any(Object[].class));
+	}
+
+	@Test
+	void fullBufferRejectsClickAndFlushesInBackground() {
+		buffer = newBuffer(2, 10, 3);
+
+		assertThat(buffer.add("u1", 1L)).isTrue();
+		assertThat(buffer.add("u1", 2L)).isTrue();
+		assertThat(buffer.add("u1", 3L)).isFalse();
+
+		assertThat(meterRegistry.counter("feed.click.buffer.overflow").count()).isEqualTo(1.0);
+		ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+		verify(jdbcTemplate, timeout(2000)).update(anyString(), args.capture());
+		assertThat(args.getValue()).hasSize(6);
+		// 거절한 클릭의 읽음 표시는 호출한 쪽이 되돌립니다.
+		verifyNoInteractions(seenFeedService);
+	}
+
+	@Test
+	void failedBatchIsRetriedOnNextFlush() {
+		buffer = newBuffer(100, 10, 3);
+		doThrow(new QueryTimeoutException("timeout")).doReturn(1)
+				.when(jdbcTemplate).update(anyString(), any(Object[].class));
+
+		buffer.add("u1", 1L);
+		buffer.flush();
+		buffer.flush();
+		buffer.flush();
+
+		verify(jdbcTemplate, times(2)).update(anyString(), any(Object[].class));
+		verify(seenFeedService, never()).unmarkSeen(anyString(), any());
+		assertThat(meterRegistry.counter("feed.click.dropped").count()).isZero();
+	}
+
+	@Test
+	void batchIsDroppedAndUnmarkedAfterMaxRetries() {
+		buffer = newBuffer(100, 10, 1);
+		doThrow(new QueryTimeoutException("timeout"))
+				.when(jdbcTemplate).update(anyString(), any(Object[].class));
+
+		buffer.add("u1", 1L);
+		buffer.flush();
+		buffer.flush();
+		buffer.flush();
+
+		// 처음 저장과 한 번의 재시도 뒤 버립니다.
+		verify(jdbcTemplate, times(2)).update(anyString(), any(Object[].class));
+		verify(seenFeedService).unmarkSeen("u1", 1L);
+		assertThat(meterRegistry.counter("feed.click.dropped").count()).isEqualTo(1.0);
+
+		// 버린 클릭은 다시 받을 수 있습니다.
+		assertThat(buffer.add("u1", 1L)).isTrue();
+	}
+
+	private FeedClickBuffer newBuffer(int capacity, int batchSize, int maxRetries) {
+		FeedProperties feedProperties = new FeedProperties();
+		feedProperties.setClickBufferCapacity(capacity);
+		feedProperties.setClickBatchSize(batchSize);
+		feedProperties.setClickMaxRetries(maxRetries);
+		return new FeedClickBuffer(jdbcTemplate, seenFeedService, feedProperties, meterRegistry);
+	}
+}
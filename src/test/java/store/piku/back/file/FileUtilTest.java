@@ -0,0 +1,64 @@
+package store.piku.back.file;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Base64;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FileUtilTest {
+
+	private final FileUtil fileUtil = new FileUtil();
+
+	@Test
+	void decodedBase64LengthMatchesDecoder() {
+		Random random = new Random(42);
+		for (int size = 0; size <= 64; size++) {
+			byte[] content = new byte[size];
+			random.nextBytes(content);
+			String padded = Base64.getEncoder().encodeToString(content);
+			String unpadded = Base64.getEncoder().withoutPadding().encodeToString(content);
+
+			assertThat(fileUtil.decodedBase64Length(padded)).as("padded %d", size).isEqualTo(size);
+			assertThat(fileUtil.decodedBase64Length(unpadded)).as("unpadded %d", size).isEqualTo(size);
+		}
+	}
+
+	@Test
+	void decodedBase64LengthRejectsBadLength() {
+		assertThatThrownBy(() -> fileUtil.decodedBase64Length("a")).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> fileUtil.decodedBase64Length("abcde")).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void decodedBase64LengthRejectsBadPadding() {
+		assertThatThrownBy(() -> fileUtil.decodedBase64Length("abcd===")).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> fileUtil.decodedBase64Length("abc==")).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void decodedBase64LengthRejectsCharactersOutsideBasicAlphabet() {
+		assertThatThrownBy(() -> fileUtil.decodedBase64Length("ab c")).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> fileUtil.decodedBase64Length("abcd\nabcd")).isInstanceOf(IllegalArgumentException.class);
+		// URL-safe 알파벳은 기본 디코더가 받지 않습니다.
+		assertThatThrownBy(() -> fileUtil.decodedBase64Length("ab-_")).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> fileUtil.decodedBase64Length("a=bc")).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void acceptedInputDecodesToComputedLength() throws IOException {
+		byte[] content = new byte[1000];
+		new Random(7).nextBytes(content);
+		String base64 = Base64.getEncoder().encodeToString(content);
+
+		long length = fileUtil.decodedBase64Length(base64);
+		try (InputStream in = fileUtil.openBase64Stream(base64)) {
+			byte[] decoded = in.readAllBytes();
+			assertThat(decoded).hasSize((int) length).isEqualTo(content);
+		}
+	}
+}
@@ -0,0 +1,142 @@
+package store.piku.back.file;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StaticFileSenderTest {
+
+	private static final byte[] CONTENT = "0123456789".getBytes(StandardCharsets.US_ASCII);
+	private static final String ETAG = "\"abc\"";
+	private static final long LAST_MODIFIED = 1_700_000_000_000L;
+
+	private final StaticFileSender sender = new StaticFileSender();
+
+	@Test
+	void sendsWholeContentWithoutRange() throws IOException {
+		MockHttpServletResponse response = send(get());
+
+		assertThat(response.getStatus()).isEqualTo(200);
+		assertThat(response.getContentAsString()).isEqualTo("0123456789");
+		assertThat(response.getHeader(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+		assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(ETAG);
+	}
+
+	@Test
+	void sendsRequestedRange() throws IOException {
+		MockHttpServletRequest request = get();
+		request.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+
+		MockHttpServletResponse response = send(request);
+
+		assertThat(response.getStatus()).isEqualTo(206);
+		assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 2-5/10");
+		assertThat(response.getContentLengthLong()).isEqualTo(4);
+		assertThat(response.getContentAsString()).isEqualTo("2345");
+	}
+
+	@Test
+	void sendsSuffixAndOpenEndedRanges() throws IOException {
+		MockHttpServletRequest suffix = get();
+		suffix.addHeader(HttpHeaders.RANGE, "bytes=-3");
+		MockHttpServletRequest openEnded = get();
+		openEnded.addHeader(HttpHeaders.RANGE, "bytes=7-");
+		MockHttpServletRequest pastEnd = get();
+		pastEnd.addHeader(HttpHeaders.RANGE, "bytes=8-100");
+
+		assertThat(send(suffix).getContentAsString()).isEqualTo("789");
+		assertThat(send(openEnded).getContentAsString()).isEqualTo("789");
+		MockHttpServletResponse clipped = send(pastEnd);
+		assertThat(clipped.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 8-9/10");
+		assertThat(clipped.getContentAsString()).isEqualTo("89");
+	}
+
+	@Test
+	void rejectsRangeStartingPastEnd() throws IOException {
+		MockHttpServletRequest request = get();
+		request.addHeader(HttpHeaders.RANGE, "bytes=10-");
+
+		MockHttpServletResponse response = send(request);
+
+		assertThat(response.getStatus()).isEqualTo(416);
+		assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */10");
+		assertThat(response.getContentAsByteArray()).isEmpty();
+	}
+
+	@Test
+	void ignoresMultipleAndMalformedRanges() throws IOException {
+		MockHttpServletRequest multiple = get();
+		multiple.addHeader(HttpHeaders.RANGE, "bytes=0-1,4-5");
+		MockHttpServletRequest malformed = get();
+		malformed.addHeader(HttpHeaders.RANGE, "bytes=abc");
+
+		for (MockHttpServletRequest request : new MockHttpServletRequest[]{multiple, malformed}) {
+			MockHttpServletResponse response = send(request);
+			assertThat(response.getStatus()).isEqualTo(200);
+			assertThat(response.getContentAsString()).isEqualTo("0123456789");
+		}
+	}
+
+	@Test
+	void honorsIfRangeOnlyForCurrentVersion() throws IOException {
+		MockHttpServletRequest current = get();
+		current.addHeader(HttpHeaders.RANGE, "bytes=0-1");
+		current.addHeader(HttpHeaders.IF_RANGE, ETAG);
+		MockHttpServletRequest currentDate = get();
+		currentDate.addHeader(HttpHeaders.RANGE, "bytes=0-1");
+		currentDate.addHeader(HttpHeaders.IF_RANGE, LAST_MODIFIED);
+		MockHttpServletRequest stale = get();
+		stale.addHeader(HttpHeaders.RANGE, "bytes=0-1");
+		stale.addHeader(HttpHeaders.IF_RANGE, "\"other\"");
+
+		assertThat(send(current).getStatus()).isEqualTo(206);
+		assertThat(send(currentDate).getStatus()).isEqualTo(206);
+		MockHttpServletResponse response = send(stale);
+		assertThat(response.getStatus()).isEqualTo(200);
+		assertThat(response.getContentAsString()).isEqualTo("0123456789");
+	}
+
+	@Test
+	void answersNotModifiedForMatchingEtag() throws IOException {
+		MockHttpServletRequest request = get();
+		request.addHeader(HttpHeaders.IF_NONE_MATCH, ETAG);
+		request.addHeader(HttpHeaders.RANGE, "bytes=0-1");
+
+		MockHttpServletResponse response = send(request);
+
+		assertThat(response.getStatus()).isEqualTo(304);
+		assertThat(response.getContentAsByteArray()).isEmpty();
+		assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("max-age=3600");
+	}
+
+	@Test
+	void headSendsHeadersOnly() throws IOException {
+		MockHttpServletRequest request = new MockHttpServletRequest("HEAD", "/image.png");
+		request.addHeader(HttpHeaders.RANGE, "bytes=0-1");
+
+		MockHttpServletResponse response = send(request);
+
+		assertThat(response.getStatus()).isEqualTo(206);
+		assertThat(response.getContentLengthLong()).isEqualTo(2);
+		assertThat(response.getContentAsByteArray()).isEmpty();
+	}
+
+	private MockHttpServletRequest get() {
+		return new MockHttpServletRequest("GET", "/image.png");
+	}
+
+	private MockHttpServletResponse send(MockHttpServletRequest request) throws IOException {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		sender.send(CONTENT, "image.png", "image/png", ETAG, LAST_MODIFIED,
+				CacheControl.maxAge(Duration.ofHours(1)), request, response);
+		return response;
+	}
+}